@@ -0,0 +1,33 @@
+package com.naharoo.commons.mstoolkit.benchmarks.crudservices;
+
+import com.naharoo.commons.mstoolkit.domainmodel.Identifiable;
+
+public class BenchmarkEntity implements Identifiable<Long> {
+
+    private static final long serialVersionUID = 2236512380218915217L;
+
+    private Long id;
+    private String name;
+
+    public BenchmarkEntity(final Long id, final String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(final Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(final String name) {
+        this.name = name;
+    }
+}
@@ -0,0 +1,11 @@
+package com.naharoo.commons.mstoolkit.benchmarks.crudservices;
+
+import com.naharoo.commons.mstoolkit.crudservices.AbstractCrudService;
+import org.springframework.data.repository.CrudRepository;
+
+public class BenchmarkEntityService extends AbstractCrudService<BenchmarkEntity, Long> {
+
+    public BenchmarkEntityService(final CrudRepository<BenchmarkEntity, Long> crudRepository) {
+        super(crudRepository);
+    }
+}
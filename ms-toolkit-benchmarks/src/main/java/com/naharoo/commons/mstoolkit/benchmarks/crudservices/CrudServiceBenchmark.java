@@ -0,0 +1,72 @@
+package com.naharoo.commons.mstoolkit.benchmarks.crudservices;
+
+import com.naharoo.commons.mstoolkit.exceptions.ResourceNotFoundException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call overhead of {@code AbstractCrudService} read operations over an in-memory repository,
+ * with trace and debug logging disabled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CrudServiceBenchmark {
+
+    private static final int ENTITY_COUNT = 1000;
+    private static final int IDS_COUNT = 100;
+    private static final long MISSING_ID = -1L;
+
+    private BenchmarkEntityService service;
+    private List<Long> ids;
+
+    @Setup
+    public void setUp() {
+        service = new BenchmarkEntityService(new InMemoryCrudRepository());
+        for (int i = 0; i < ENTITY_COUNT; i++) {
+            service.create(new BenchmarkEntity(null, "entity-" + i));
+        }
+
+        ids = new ArrayList<>(IDS_COUNT);
+        for (long id = 1; id <= IDS_COUNT; id++) {
+            ids.add(id);
+        }
+    }
+
+    @Benchmark
+    public BenchmarkEntity get() {
+        return service.get(1L);
+    }
+
+    @Benchmark
+    public Optional<BenchmarkEntity> findHit() {
+        return service.find(1L);
+    }
+
+    @Benchmark
+    public Optional<BenchmarkEntity> findMiss() {
+        return service.find(MISSING_ID);
+    }
+
+    @Benchmark
+    public ResourceNotFoundException getMiss() {
+        try {
+            service.get(MISSING_ID);
+            throw new IllegalStateException("Entity by missing id has been found");
+        } catch (final ResourceNotFoundException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public List<BenchmarkEntity> getByIds() {
+        return service.getByIds(ids);
+    }
+}
@@ -0,0 +1,54 @@
+package com.naharoo.commons.mstoolkit.benchmarks.crudservices;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call overhead of {@code AbstractCrudService} write operations over an in-memory repository,
+ * with trace and debug logging disabled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CrudServiceWriteBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    private BenchmarkEntityService service;
+    private BenchmarkEntity entity;
+    private List<BenchmarkEntity> entities;
+
+    @Setup
+    public void setUp() {
+        service = new BenchmarkEntityService(new InMemoryCrudRepository());
+        entity = service.create(new BenchmarkEntity(null, "entity"));
+
+        final List<BenchmarkEntity> newEntities = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            newEntities.add(new BenchmarkEntity(null, "entity-" + i));
+        }
+        entities = service.createAll(newEntities);
+    }
+
+    @Benchmark
+    public BenchmarkEntity update() {
+        return service.update(entity);
+    }
+
+    @Benchmark
+    public List<BenchmarkEntity> updateAll() {
+        return service.updateAll(entities);
+    }
+
+    @Benchmark
+    public void createAndDelete() {
+        final BenchmarkEntity created = service.create(new BenchmarkEntity(null, "transient"));
+        service.delete(created.getId());
+    }
+}
@@ -0,0 +1,87 @@
+package com.naharoo.commons.mstoolkit.benchmarks.crudservices;
+
+import org.springframework.data.repository.CrudRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link CrudRepository} keeping entities in a map, so benchmarks measure the overhead of the service layer only.
+ */
+public class InMemoryCrudRepository implements CrudRepository<BenchmarkEntity, Long> {
+
+    private final Map<Long, BenchmarkEntity> entities = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Override
+    public <S extends BenchmarkEntity> S save(final S entity) {
+        if (entity.getId() == null) {
+            entity.setId(sequence.incrementAndGet());
+        }
+        entities.put(entity.getId(), entity);
+        return entity;
+    }
+
+    @Override
+    public <S extends BenchmarkEntity> Iterable<S> saveAll(final Iterable<S> entities) {
+        final List<S> saved = new ArrayList<>();
+        entities.forEach(entity -> saved.add(save(entity)));
+        return saved;
+    }
+
+    @Override
+    public Optional<BenchmarkEntity> findById(final Long id) {
+        return Optional.ofNullable(entities.get(id));
+    }
+
+    @Override
+    public boolean existsById(final Long id) {
+        return entities.containsKey(id);
+    }
+
+    @Override
+    public Iterable<BenchmarkEntity> findAll() {
+        return new ArrayList<>(entities.values());
+    }
+
+    @Override
+    public Iterable<BenchmarkEntity> findAllById(final Iterable<Long> ids) {
+        final List<BenchmarkEntity> found = new ArrayList<>();
+        for (final Long id : ids) {
+            final BenchmarkEntity entity = entities.get(id);
+            if (entity != null) {
+                found.add(entity);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public long count() {
+        return entities.size();
+    }
+
+    @Override
+    public void deleteById(final Long id) {
+        entities.remove(id);
+    }
+
+    @Override
+    public void delete(final BenchmarkEntity entity) {
+        entities.remove(entity.getId());
+    }
+
+    @Override
+    public void deleteAll(final Iterable<? extends BenchmarkEntity> entities) {
+        entities.forEach(this::delete);
+    }
+
+    @Override
+    public void deleteAll() {
+        entities.clear();
+    }
+}
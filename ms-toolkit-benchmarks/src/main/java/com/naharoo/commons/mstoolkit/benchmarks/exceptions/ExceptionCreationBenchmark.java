@@ -0,0 +1,62 @@
+package com.naharoo.commons.mstoolkit.benchmarks.exceptions;
+
+import com.naharoo.commons.mstoolkit.exceptions.PreconditionViolationException;
+import com.naharoo.commons.mstoolkit.exceptions.ResourceNotFoundException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of constructing toolkit exceptions through their factory methods.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExceptionCreationBenchmark {
+
+    private static final String RESOURCE_NAME = "Entity";
+
+    private final Long id = 42L;
+    private final Map<String, Object> fieldValuePairs = new LinkedHashMap<>();
+
+    @Setup
+    public void setUp() {
+        fieldValuePairs.put("name", "entity");
+        fieldValuePairs.put("version", 3);
+    }
+
+    @Benchmark
+    public ResourceNotFoundException resourceNotFoundByIdentifier() {
+        return ResourceNotFoundException.createInstance(RESOURCE_NAME, "id: 42", null);
+    }
+
+    @Benchmark
+    public ResourceNotFoundException resourceNotFoundByFieldValue() {
+        return ResourceNotFoundException.createInstance(RESOURCE_NAME, "id", id);
+    }
+
+    @Benchmark
+    public ResourceNotFoundException resourceNotFoundByClassFieldValue() {
+        return ResourceNotFoundException.createInstance(ExceptionCreationBenchmark.class, "id", id);
+    }
+
+    @Benchmark
+    public ResourceNotFoundException resourceNotFoundByFieldValuePairs() {
+        return ResourceNotFoundException.createInstance(RESOURCE_NAME, fieldValuePairs);
+    }
+
+    @Benchmark
+    public String resourceNotFoundByFieldValueMessage() {
+        return ResourceNotFoundException.createInstance(RESOURCE_NAME, "id", id).getMessage();
+    }
+
+    @Benchmark
+    public PreconditionViolationException preconditionViolation() {
+        return PreconditionViolationException.createInstance("version");
+    }
+}
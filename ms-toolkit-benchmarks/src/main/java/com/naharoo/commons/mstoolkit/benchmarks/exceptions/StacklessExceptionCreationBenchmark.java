@@ -0,0 +1,49 @@
+package com.naharoo.commons.mstoolkit.benchmarks.exceptions;
+
+import com.naharoo.commons.mstoolkit.exceptions.ResourceNotFoundException;
+import com.naharoo.commons.mstoolkit.exceptions.StacklessExceptions;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of constructing toolkit exceptions with stack traces disabled, to be compared with
+ * {@link ExceptionCreationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StacklessExceptionCreationBenchmark {
+
+    private static final String RESOURCE_NAME = "Entity";
+
+    private final Long id = 42L;
+
+    @Setup
+    public void setUp() {
+        StacklessExceptions.setStackless(ResourceNotFoundException.class, true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        StacklessExceptions.resetStackless(ResourceNotFoundException.class);
+    }
+
+    @Benchmark
+    public ResourceNotFoundException resourceNotFoundByIdentifier() {
+        return ResourceNotFoundException.createInstance(RESOURCE_NAME, "id: 42", null);
+    }
+
+    @Benchmark
+    public ResourceNotFoundException resourceNotFoundByFieldValue() {
+        return ResourceNotFoundException.createInstance(RESOURCE_NAME, "id", id);
+    }
+
+    @Benchmark
+    public ResourceNotFoundException sharedResourceNotFound() {
+        return ResourceNotFoundException.sharedInstance();
+    }
+}
@@ -0,0 +1,60 @@
+package com.naharoo.commons.mstoolkit.benchmarks.rest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.naharoo.commons.mstoolkit.exceptions.ResourceNotFoundException;
+import com.naharoo.commons.mstoolkit.rest.exceptionhandler.ResourceNotFoundExceptionHandler;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning an {@code MsException} into an error response and serializing it.
+ * <p>
+ * Logging of the exception handlers is turned off in {@code logback.xml}, so appenders are not measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExceptionHandlerBenchmark {
+
+    private ResourceNotFoundExceptionHandler handler;
+    private MockHttpServletRequest request;
+    private ResourceNotFoundException exception;
+    private ObjectMapper objectMapper;
+    private Object responseBody;
+
+    @Setup
+    public void setUp() {
+        handler = new ResourceNotFoundExceptionHandler();
+        request = new MockHttpServletRequest("GET", "/entities/42");
+        request.setQueryString("expand=details");
+        exception = ResourceNotFoundException.createInstance("Entity", "id", 42L);
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        responseBody = handler.handle(exception, request).getBody();
+    }
+
+    @Benchmark
+    public ResponseEntity<?> handle() {
+        return handler.handle(exception, request);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(responseBody);
+    }
+
+    @Benchmark
+    public byte[] handleAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(handler.handle(exception, request).getBody());
+    }
+}
@@ -0,0 +1,75 @@
+package com.naharoo.commons.mstoolkit.benchmarks.rest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.naharoo.commons.mstoolkit.exceptions.MsException;
+import com.naharoo.commons.mstoolkit.exceptions.MsExceptionCodec;
+import com.naharoo.commons.mstoolkit.exceptions.ResourceNotFoundException;
+import com.naharoo.commons.mstoolkit.rest.exceptionhandler.ApiErrorResponse;
+import com.naharoo.commons.mstoolkit.rest.exceptionhandler.client.MsExceptionFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * Cost of exchanging {@code MsException}s in the binary encoding of {@link MsExceptionCodec}, compared with the JSON
+ * error responses produced by exception handlers and decoded by {@link MsExceptionFactory}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MsExceptionCodecBenchmark {
+
+    private ObjectMapper objectMapper;
+    private MsExceptionFactory factory;
+    private MsException exception;
+    private byte[] binaryPayload;
+    private byte[] jsonPayload;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        factory = new MsExceptionFactory(objectMapper);
+        exception = ResourceNotFoundException.createInstance("Entity", "id", 42L);
+        binaryPayload = MsExceptionCodec.encode(exception);
+        jsonPayload = objectMapper.writeValueAsBytes(toApiErrorResponse(exception));
+    }
+
+    private static ApiErrorResponse toApiErrorResponse(final MsException exception) {
+        return new ApiErrorResponse(
+                exception.getReportingIssueType().statusCode(),
+                new HashSet<>(exception.getTypes()),
+                singletonList(exception.getMessage()),
+                LocalDateTime.now()
+        );
+    }
+
+    @Benchmark
+    public byte[] binaryEncode() {
+        return MsExceptionCodec.encode(exception);
+    }
+
+    @Benchmark
+    public MsException binaryDecode() {
+        return MsExceptionCodec.decode(binaryPayload);
+    }
+
+    @Benchmark
+    public byte[] jsonEncode() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(toApiErrorResponse(exception));
+    }
+
+    @Benchmark
+    public MsException jsonDecode() {
+        return factory.createInstance(404, () -> new ByteArrayInputStream(jsonPayload));
+    }
+}
@@ -0,0 +1,58 @@
+package com.naharoo.commons.mstoolkit.benchmarks.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.naharoo.commons.mstoolkit.exceptions.MsException;
+import com.naharoo.commons.mstoolkit.rest.exceptionhandler.client.MsExceptionFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of decoding error responses of downstream services into {@code MsException}s.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MsExceptionFactoryBenchmark {
+
+    private static final byte[] COMMON_ISSUE_BODY = (
+            "{\"statusCode\":404,\"types\":[\"RESOURCE_NOT_FOUND\"],"
+            + "\"messages\":[\"No Entity can be found by given id: 42.\"],\"timestamp\":\"2020-10-10T10:10:10\"}"
+    ).getBytes(StandardCharsets.UTF_8);
+    private static final byte[] CUSTOM_ISSUE_BODY = (
+            "{\"statusCode\":422,\"types\":[\"ORDER_ALREADY_SHIPPED\"],"
+            + "\"messages\":[\"Order 42 is already shipped.\"],\"timestamp\":\"2020-10-10T10:10:10\"}"
+    ).getBytes(StandardCharsets.UTF_8);
+    private static final byte[] MULTIPLE_ISSUES_BODY = (
+            "{\"statusCode\":409,\"types\":[\"RESOURCE_ALREADY_EXISTS\",\"ORDER_ALREADY_SHIPPED\"],"
+            + "\"messages\":[\"Order 42 already exists.\"],\"timestamp\":\"2020-10-10T10:10:10\"}"
+    ).getBytes(StandardCharsets.UTF_8);
+
+    private MsExceptionFactory factory;
+
+    @Setup
+    public void setUp() {
+        factory = new MsExceptionFactory(new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    @Benchmark
+    public MsException commonIssue() {
+        return factory.createInstance(404, () -> new ByteArrayInputStream(COMMON_ISSUE_BODY));
+    }
+
+    @Benchmark
+    public MsException customIssue() {
+        return factory.createInstance(422, () -> new ByteArrayInputStream(CUSTOM_ISSUE_BODY));
+    }
+
+    @Benchmark
+    public MsException multipleIssues() {
+        return factory.createInstance(409, () -> new ByteArrayInputStream(MULTIPLE_ISSUES_BODY));
+    }
+}
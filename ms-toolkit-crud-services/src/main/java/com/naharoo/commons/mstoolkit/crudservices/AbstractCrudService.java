@@ -1,29 +1,79 @@
 package com.naharoo.commons.mstoolkit.crudservices;
 
+import com.naharoo.commons.mstoolkit.crudservices.cache.EntityCache;
+import com.naharoo.commons.mstoolkit.crudservices.metrics.CrudMetrics;
 import com.naharoo.commons.mstoolkit.domainmodel.Identifiable;
+import com.naharoo.commons.mstoolkit.exceptions.PreconditionViolationException;
 import com.naharoo.commons.mstoolkit.exceptions.ResourceNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.GenericTypeResolver;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.Serializable;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
 import static org.springframework.util.Assert.*;
 
 public abstract class AbstractCrudService<T extends Identifiable<I>, I extends Serializable> implements CrudService<T, I> {
 
+    private static final int MAX_REPORTED_VIOLATIONS = 10;
+    /**
+     * Name of the entities' id property, matching the derived queries of {@link KeysetPagingRepository}.
+     */
+    private static final String ID_PROPERTY = "id";
+    private static final RetryPolicy DEFAULT_MODIFY_RETRY_POLICY = RetryPolicy
+            .maxAttempts(3)
+            .withBackoff(Duration.ofMillis(10), 2, Duration.ofMillis(100));
+
     protected final Class<T> entityClass = resolveGenericEntityType();
 
+    private final String entityName = entityClass.getSimpleName();
+
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final CrudRepository<T, I> crudRepository;
+    private final SingleFlight<I, Optional<T>> findSingleFlight = new SingleFlight<>();
+    private final CacheEvictionStamps cacheEvictionStamps = new CacheEvictionStamps();
+    private volatile BatchCoalescer<I, T> getByIdsCoalescer;
+    private CrudMetrics crudMetrics = CrudMetrics.none();
+    private PlatformTransactionManager transactionManager;
 
     protected AbstractCrudService(final CrudRepository<T, I> crudRepository) {
         this.crudRepository = crudRepository;
@@ -42,16 +92,208 @@ public abstract class AbstractCrudService<T extends Identifiable<I>, I extends S
         return (Class<T>) classes[0];
     }
 
+    /**
+     * Sets the metrics recording durations and sizes of operations performed by this service.
+     * Nothing is measured unless set or provided by the application.
+     *
+     * @param crudMetrics must not be {@literal null}.
+     */
+    public void setCrudMetrics(final CrudMetrics crudMetrics) {
+        notNull(crudMetrics, "crudMetrics cannot be null.");
+        this.crudMetrics = crudMetrics;
+    }
+
+    /**
+     * Uses the application's {@link CrudMetrics}, if it has a single or a primary one.
+     */
+    @Autowired
+    void resolveCrudMetrics(final ObjectProvider<CrudMetrics> crudMetrics) {
+        crudMetrics.ifUnique(this::setCrudMetrics);
+    }
+
+    /**
+     * Sets the transaction manager returned by {@link #getTransactionManager()}.
+     *
+     * @param transactionManager must not be {@literal null}.
+     */
+    public void setTransactionManager(final PlatformTransactionManager transactionManager) {
+        notNull(transactionManager, "transactionManager cannot be null.");
+        this.transactionManager = transactionManager;
+    }
+
+    /**
+     * Uses the application's transaction manager, unless one is set already. Nothing is used if the application has
+     * several transaction managers, none of them primary, so that such applications keep starting.
+     */
+    @Autowired
+    void resolveTransactionManager(final ObjectProvider<PlatformTransactionManager> transactionManagers) {
+        if (transactionManager == null) {
+            transactionManagers.ifUnique(this::setTransactionManager);
+        }
+    }
+
+    /**
+     * Returns the cache consulted by {@link #find(Serializable)}, {@link #get(Serializable)} and {@link #getByIds(Collection)}
+     * before reaching the repository. Caching is disabled by default.
+     * <p>
+     * Entities are cached only once the transaction which loaded them commits, so the state of a transaction rolled
+     * back afterwards never reaches the cache. Entries are invalidated by creations, updates and deletions performed
+     * through this service, both immediately and after completion of the surrounding transaction, if any.
+     * An entity loaded before such an invalidation of its id isn't cached afterwards, so a reader committing after a
+     * writer doesn't bring back the state the writer replaced. Writes bypassing this service, or performed by other
+     * instances of the application, are only reflected once the entries expire.
+     *
+     * @return the cache to be used by this service; never {@literal null}.
+     */
+    protected EntityCache getEntityCache() {
+        return EntityCache.none();
+    }
+
+    /**
+     * Returns whether concurrent {@link #find(Serializable)} calls for the same id share a single repository lookup.
+     * Disabled by default.
+     * <p>
+     * When enabled, callers waiting for an in-flight lookup receive the entity loaded within the transaction of the
+     * caller which started it. Thus it suits entities which are treated as read-only.
+     *
+     * @return {@literal true} if lookups by id have to be deduplicated.
+     */
+    protected boolean isSingleFlightEnabled() {
+        return false;
+    }
+
+    /**
+     * Returns the window within which ids requested by concurrent {@link #getByIds(Collection)} calls are merged into
+     * a single repository lookup. Coalescing is disabled by default.
+     * <p>
+     * The first caller of a window waits for it to elapse, or for {@link #getByIdsCoalescingMaxSize()} ids to be
+     * collected, and loads all of them within its own transaction. Thus it suits entities which are treated as
+     * read-only. Only ids missing from the entity cache are coalesced.
+     * <p>
+     * Waiting adds up to the whole window to the latency of the first caller. To keep lone callers from paying it,
+     * the first caller waits only while another coalesced lookup is in progress; otherwise it looks up its ids
+     * right away, and callers arriving meanwhile are coalesced into the next lookup.
+     *
+     * @return the coalescing window; {@link Duration#ZERO} if coalescing is disabled. Never {@literal null}.
+     */
+    protected Duration getByIdsCoalescingWindow() {
+        return Duration.ZERO;
+    }
+
+    /**
+     * @return the maximum number of ids merged into a single coalesced lookup.
+     */
+    protected int getByIdsCoalescingMaxSize() {
+        return 1000;
+    }
+
+    /**
+     * Returns the maximum number of ids passed to a single {@link CrudRepository#findAllById(Iterable)} call.
+     * Larger id collections are split into chunks, to keep generated {@code IN} clauses within data store limits.
+     *
+     * @return the chunk size of lookups by ids.
+     */
+    protected int getFindChunkSize() {
+        return 1000;
+    }
+
+    /**
+     * Returns whether id chunks are padded, by repeating their last id, up to the closest power of two not exceeding
+     * {@link #getFindChunkSize()}. Disabled by default.
+     * <p>
+     * Padding limits the number of distinct statements, so their execution plans are reused by the data store.
+     * Enable it only if the repository returns every matching entity once, regardless of duplicate ids.
+     *
+     * @return {@literal true} if id chunks have to be padded.
+     */
+    protected boolean isFindChunkPaddingEnabled() {
+        return false;
+    }
+
+    /**
+     * Returns the pool checking invariants of bulk writes in parallel. Invariants are checked sequentially by default.
+     * <p>
+     * When provided, collections of at least {@link #getParallelValidationThreshold()} entities are checked on it, by
+     * invoking the per-entity {@code assureCreationInvariants} or {@code assureUpdateInvariants} hooks concurrently.
+     * All entities are checked. A single violation is rethrown as is, several ones are reported together by a
+     * {@link PreconditionViolationException} listing their messages. Checks running on the pool don't participate
+     * in the caller's transaction, so hooks doing lookups shouldn't rely on it.
+     *
+     * @return the pool or {@literal null} to check invariants sequentially.
+     */
+    protected ForkJoinPool getValidationPool() {
+        return null;
+    }
+
+    /**
+     * @return the minimum number of entities whose invariants are checked in parallel.
+     */
+    protected int getParallelValidationThreshold() {
+        return 1000;
+    }
+
+    /**
+     * Returns the executor running id chunks in parallel. Chunks are looked up sequentially by default.
+     * <p>
+     * Lookups running on the executor don't participate in the caller's transaction. Provide one only if reads don't
+     * have to be consistent with the caller's transaction, and bound it to protect the connection pool.
+     *
+     * @return the executor or {@literal null} to look up chunks sequentially.
+     */
+    protected Executor getFindChunkExecutor() {
+        return null;
+    }
+
+    /**
+     * Returns the options of bulk writes performed by {@link #createAll(Collection)}, {@link #updateAll(Collection)}
+     * and {@link #upsertAll(Collection)}. By default the whole collection is saved with a single repository call.
+     * <p>
+     * Committing per chunk requires two connections per concurrent bulk write, see {@link BulkWriteOptions}.
+     *
+     * @return the bulk write options; never {@literal null}.
+     */
+    protected BulkWriteOptions getBulkWriteOptions() {
+        return BulkWriteOptions.unchunked();
+    }
+
+    /**
+     * Flushes pending changes to the data store and detaches all managed entities.
+     * Invoked after each chunk of a chunked bulk write and between batches of streamed reads. Does nothing by default.
+     * <p>
+     * Services backed by JPA should override it with {@code entityManager.flush()} and {@code entityManager.clear()}.
+     */
+    protected void flushAndClear() {
+    }
+
+    /**
+     * Returns the transaction manager used for operations which manage transactions programmatically,
+     * e.g. bulk writes committed per chunk and retried modifications. By default it is the application's transaction
+     * manager, if it has a single or a primary one. Otherwise set one through
+     * {@link #setTransactionManager(PlatformTransactionManager)} or override this method.
+     *
+     * @return the transaction manager or {@literal null} if not provided.
+     */
+    protected PlatformTransactionManager getTransactionManager() {
+        return transactionManager;
+    }
+
     @Override
     @Transactional
     public T create(final T entity) {
         notNull(entity, "entity for creation cannot be null.");
-        logger.trace("Creating a new {}...", entityClass.getSimpleName());
+        if (logger.isTraceEnabled()) {
+            logger.trace("Creating a new {}...", entityName);
+        }
 
+        final long startNanos = startTimer();
         assureCreationInvariants(entity);
         final T created = crudRepository.save(entity);
+        evictFromCache(singleton(created.getId()));
+        stopTimer("create", startNanos);
 
-        logger.debug("Successfully created a new {}.", entityClass.getSimpleName());
+        if (logger.isDebugEnabled()) {
+            logger.debug("Successfully created a new {}.", entityName);
+        }
         return created;
     }
 
@@ -66,32 +308,114 @@ public abstract class AbstractCrudService<T extends Identifiable<I>, I extends S
     public List<T> createAll(final Collection<? extends T> entities) {
         notEmpty(entities, "entities for creation cannot be null or empty.");
         entities.forEach(entity -> notNull(entity, "entity for creation cannot be null."));
-        logger.trace("Creating {} new {}s...", entities.size(), entityClass.getSimpleName());
+        if (logger.isTraceEnabled()) {
+            logger.trace("Creating {} new {}s...", entities.size(), entityName);
+        }
 
+        final long startNanos = startTimer();
+        recordBatchSize("createAll", entities.size());
         assureCreationInvariants(entities);
-        final List<T> created = StreamSupport
-                .stream(crudRepository.saveAll(entities).spliterator(), false)
-                .collect(Collectors.toList());
+        final List<T> created = saveAll(entities);
+        evictEntitiesFromCache(created);
+        stopTimer("createAll", startNanos);
 
-        logger.debug("Successfully created {} new {}s.", entities.size(), entityClass.getSimpleName());
+        if (logger.isDebugEnabled()) {
+            logger.debug("Successfully created {} new {}s.", entities.size(), entityName);
+        }
         return created;
     }
 
     protected void assureCreationInvariants(final Collection<? extends T> entities) {
         notEmpty(entities, "entities for creation cannot be null or empty.");
-        entities.forEach(this::assureCreationInvariants);
+        assureInvariants(entities, this::assureCreationInvariants);
+    }
+
+    private List<T> saveAll(final Collection<? extends T> entities) {
+        final BulkWriteOptions options = getBulkWriteOptions();
+        final int chunkSize = options.getChunkSize();
+        final int totalCount = entities.size();
+
+        if (totalCount <= chunkSize && !options.isCommitPerChunk()) {
+            final List<T> saved = new ArrayList<>(totalCount);
+            crudRepository.saveAll(entities).forEach(saved::add);
+            options.getListener().onChunkWritten(totalCount, totalCount);
+            return saved;
+        }
+
+        final TransactionTemplate chunkTransactionTemplate = options.isCommitPerChunk()
+                                                             ? createNewTransactionTemplate("commit bulk writes per chunk")
+                                                             : null;
+        final List<T> saved = new ArrayList<>(totalCount);
+        final List<T> chunk = new ArrayList<>(Math.min(chunkSize, totalCount));
+        for (final T entity : entities) {
+            chunk.add(entity);
+            if (chunk.size() == chunkSize) {
+                saveChunk(chunk, saved, chunkTransactionTemplate);
+                options.getListener().onChunkWritten(saved.size(), totalCount);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            saveChunk(chunk, saved, chunkTransactionTemplate);
+            options.getListener().onChunkWritten(saved.size(), totalCount);
+        }
+
+        return saved;
+    }
+
+    private void saveChunk(final List<T> chunk, final List<T> saved, final TransactionTemplate transactionTemplate) {
+        if (logger.isTraceEnabled()) {
+            logger.trace("Saving a chunk of {} {}s...", chunk.size(), entityName);
+        }
+
+        if (transactionTemplate == null) {
+            crudRepository.saveAll(chunk).forEach(saved::add);
+            flushAndClear();
+        } else {
+            transactionTemplate.executeWithoutResult(status -> {
+                crudRepository.saveAll(chunk).forEach(saved::add);
+                flushAndClear();
+            });
+        }
+        chunk.clear();
+    }
+
+    private TransactionTemplate createNewTransactionTemplate(final String purpose) {
+        final PlatformTransactionManager transactionManager = getTransactionManager();
+        if (transactionManager == null) {
+            throw new IllegalStateException(String.format(
+                    "%s should provide a transaction manager to %s",
+                    getClass().getSimpleName(),
+                    purpose
+            ));
+        }
+
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return transactionTemplate;
     }
 
     @Override
     @Transactional
     public T update(final T entity) {
         notNull(entity, "entity for update cannot be null.");
-        logger.trace("Updating {} with id:'{}'...", entityClass.getSimpleName(), entity.getId());
+        if (logger.isTraceEnabled()) {
+            logger.trace("Updating {} with id:'{}'...", entityName, entity.getId());
+        }
 
+        final long startNanos = startTimer();
         assureUpdateInvariants(entity);
-        final T updated = crudRepository.save(entity);
+        final T updated;
+        try {
+            updated = crudRepository.save(entity);
+        } catch (final OptimisticLockingFailureException e) {
+            throw concurrentModification(entity.getId(), e);
+        }
+        evictFromCache(singleton(entity.getId()));
+        stopTimer("update", startNanos);
 
-        logger.debug("Successfully updated {} with id:'{}'.", entityClass.getSimpleName(), entity.getId());
+        if (logger.isDebugEnabled()) {
+            logger.debug("Successfully updated {} with id:'{}'.", entityName, entity.getId());
+        }
         return updated;
     }
 
@@ -106,86 +430,876 @@ public abstract class AbstractCrudService<T extends Identifiable<I>, I extends S
     public List<T> updateAll(final Collection<? extends T> entities) {
         notEmpty(entities, "entities for update cannot be null or empty.");
         entities.forEach(entity -> notNull(entity, "entity for update cannot be null."));
-        logger.trace("Updating {} {}s...", entities.size(), entityClass.getSimpleName());
+        if (logger.isTraceEnabled()) {
+            logger.trace("Updating {} {}s...", entities.size(), entityName);
+        }
 
+        final long startNanos = startTimer();
+        recordBatchSize("updateAll", entities.size());
         assureUpdateInvariants(entities);
-        final List<T> created = StreamSupport
-                .stream(crudRepository.saveAll(entities).spliterator(), false)
-                .collect(Collectors.toList());
+        final List<T> updated;
+        try {
+            updated = saveAll(entities);
+        } catch (final OptimisticLockingFailureException e) {
+            evictEntitiesFromCache(entities);
+            throw PreconditionViolationException.createInstance(
+                    String.format("%ss are not modified concurrently", entityName),
+                    e
+            );
+        }
+        evictEntitiesFromCache(entities);
+        stopTimer("updateAll", startNanos);
 
-        logger.debug("Successfully updated {} {}s.", entities.size(), entityClass.getSimpleName());
-        return created;
+        if (logger.isDebugEnabled()) {
+            logger.debug("Successfully updated {} {}s.", entities.size(), entityName);
+        }
+        return updated;
     }
 
     protected void assureUpdateInvariants(final Collection<? extends T> entities) {
         notEmpty(entities, "entities for update cannot be null or empty.");
-        entities.forEach(this::assureUpdateInvariants);
+        assureInvariants(entities, this::assureUpdateInvariants);
+    }
+
+    /**
+     * Applies the given per-entity check to all entities, sequentially or, above the threshold, on the validation pool.
+     * In the latter case all entities are checked. A single violation is rethrown as is. Several violations are
+     * aggregated into a {@link PreconditionViolationException} caused by the first one, in the order of the given
+     * entities, listing the messages of the first {@value #MAX_REPORTED_VIOLATIONS} of them and carrying all of them
+     * as suppressed exceptions.
+     */
+    private void assureInvariants(final Collection<? extends T> entities, final Consumer<? super T> check) {
+        final ForkJoinPool validationPool = getValidationPool();
+        if (validationPool == null || entities.size() < getParallelValidationThreshold()) {
+            entities.forEach(check);
+            return;
+        }
+
+        final List<? extends T> entityList = entities instanceof RandomAccess && entities instanceof List
+                                             ? (List<? extends T>) entities
+                                             : new ArrayList<>(entities);
+        final RuntimeException[] violations = new RuntimeException[entityList.size()];
+        final int leafSize = Math.max(1, entityList.size() / (validationPool.getParallelism() * 4));
+        validationPool.invoke(new InvariantValidationTask<>(entityList, check, violations, leafSize));
+
+        final List<RuntimeException> foundViolations = new ArrayList<>();
+        for (final RuntimeException violation : violations) {
+            if (violation != null) {
+                foundViolations.add(violation);
+            }
+        }
+        if (foundViolations.isEmpty()) {
+            return;
+        }
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("{} of {} {}s violate invariants.", foundViolations.size(), entityList.size(), entityName);
+        }
+        if (foundViolations.size() == 1) {
+            throw foundViolations.get(0);
+        }
+        throw aggregateViolations(foundViolations, entityList.size());
+    }
+
+    private PreconditionViolationException aggregateViolations(
+            final List<RuntimeException> violations,
+            final int entityCount
+    ) {
+        final StringBuilder message = new StringBuilder()
+                .append(violations.size())
+                .append(" of ")
+                .append(entityCount)
+                .append(' ')
+                .append(entityName)
+                .append("s violate invariants: ");
+        for (int i = 0; i < violations.size() && i < MAX_REPORTED_VIOLATIONS; i++) {
+            final RuntimeException violation = violations.get(i);
+            if (i > 0) {
+                message.append("; ");
+            }
+            message.append(violation.getMessage() != null
+                           ? violation.getMessage()
+                           : violation.getClass().getSimpleName());
+        }
+        if (violations.size() > MAX_REPORTED_VIOLATIONS) {
+            message.append("; ...");
+        }
+
+        final PreconditionViolationException aggregate =
+                new PreconditionViolationException(message.toString(), violations.get(0));
+        violations.subList(1, violations.size()).forEach(aggregate::addSuppressed);
+        return aggregate;
+    }
+
+    /**
+     * Saves all given entities, creating the ones without an id and updating the rest, within a single transaction.
+     * Entities are partitioned in one pass and checked by {@link #assureCreationInvariants(Collection)} and
+     * {@link #assureUpdateInvariants(Collection)} respectively, then written together according to
+     * {@link #getBulkWriteOptions()}.
+     */
+    @Override
+    @Transactional
+    public List<T> upsertAll(final Collection<? extends T> entities) {
+        notEmpty(entities, "entities for upsert cannot be null or empty.");
+        entities.forEach(entity -> notNull(entity, "entity for upsert cannot be null."));
+        if (logger.isTraceEnabled()) {
+            logger.trace("Upserting {} {}s...", entities.size(), entityName);
+        }
+
+        final long startNanos = startTimer();
+        recordBatchSize("upsertAll", entities.size());
+        final List<T> creations = new ArrayList<>();
+        final List<T> updates = new ArrayList<>();
+        for (final T entity : entities) {
+            if (entity.getId() == null) {
+                creations.add(entity);
+            } else {
+                updates.add(entity);
+            }
+        }
+        if (!creations.isEmpty()) {
+            assureCreationInvariants(creations);
+        }
+        if (!updates.isEmpty()) {
+            assureUpdateInvariants(updates);
+        }
+        final List<T> upserted = saveAll(entities);
+        evictEntitiesFromCache(upserted);
+        stopTimer("upsertAll", startNanos);
+
+        if (logger.isDebugEnabled()) {
+            logger.debug(
+                    "Successfully upserted {} {}s: {} created, {} updated.",
+                    entities.size(),
+                    entityName,
+                    creations.size(),
+                    updates.size()
+            );
+        }
+        return upserted;
+    }
+
+    /**
+     * If a transaction is active, the modification joins it and is attempted once, as a version conflict marks the
+     * whole transaction as rollback-only. Conflicts detected only on its commit are not translated.
+     * <p>
+     * Otherwise each attempt runs in a new transaction of {@link #getTransactionManager()}, so a version conflict,
+     * detected by the repository either on save or on commit, rolls back only the failed attempt. Attempts are repeated
+     * according to {@link #getModifyRetryPolicy()}.
+     *
+     * @throws IllegalStateException if no transaction is active and no transaction manager is provided.
+     */
+    @Override
+    public T modify(final I id, final Consumer<? super T> modification) {
+        notNull(id, "id for modify cannot be null.");
+        notNull(modification, "modification for modify cannot be null.");
+        if (logger.isTraceEnabled()) {
+            logger.trace("Modifying {} with id:'{}'...", entityName, id);
+        }
+
+        final long startNanos = startTimer();
+        final boolean joinsTransaction = TransactionSynchronizationManager.isActualTransactionActive();
+        final TransactionTemplate transactionTemplate = joinsTransaction
+                                                        ? null
+                                                        : createNewTransactionTemplate("retry modifications");
+        final RetryPolicy retryPolicy = getModifyRetryPolicy();
+        final int maxAttempts = joinsTransaction ? 1 : retryPolicy.getMaxAttempts();
+        int failedAttempts = 0;
+        while (true) {
+            try {
+                final T modified = joinsTransaction
+                                   ? doModify(id, modification)
+                                   : transactionTemplate.execute(status -> doModify(id, modification));
+                evictFromCache(singleton(id));
+                stopTimer("modify", startNanos);
+
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Successfully modified {} with id:'{}'.", entityName, id);
+                }
+                return modified;
+            } catch (final OptimisticLockingFailureException e) {
+                evictFromCache(singleton(id));
+                failedAttempts++;
+                if (failedAttempts >= maxAttempts) {
+                    if (logger.isDebugEnabled()) {
+                        logger.debug(
+                                "Failed to modify {} with id:'{}' after {} concurrent modifications.",
+                                entityName,
+                                id,
+                                failedAttempts
+                        );
+                    }
+                    throw concurrentModification(id, e);
+                }
+
+                if (logger.isDebugEnabled()) {
+                    logger.debug("{} with id:'{}' has been modified concurrently. Retrying...", entityName, id);
+                }
+                awaitRetry(retryPolicy.getDelay(failedAttempts), id, e);
+            }
+        }
+    }
+
+    private T doModify(final I id, final Consumer<? super T> modification) {
+        final T entity = crudRepository
+                .findById(id)
+                .orElseThrow(() -> ResourceNotFoundException.createInstance(entityName, "id", id));
+        modification.accept(entity);
+        assureUpdateInvariants(entity);
+        return crudRepository.save(entity);
+    }
+
+    private PreconditionViolationException concurrentModification(final I id, final Exception failure) {
+        return PreconditionViolationException.createInstance(
+                String.format("%s with id:'%s' is not modified concurrently", entityName, id),
+                failure
+        );
+    }
+
+    /**
+     * Returns the policy of retrying {@link #modify(Serializable, Consumer)} after a concurrent modification.
+     * By default 3 attempts are made, with an initial delay of 10 milliseconds doubled after each failure.
+     *
+     * @return the retry policy; never {@literal null}.
+     */
+    protected RetryPolicy getModifyRetryPolicy() {
+        return DEFAULT_MODIFY_RETRY_POLICY;
+    }
+
+    private void awaitRetry(final Duration delay, final I id, final OptimisticLockingFailureException failure) {
+        if (delay.isZero()) {
+            return;
+        }
+
+        try {
+            TimeUnit.NANOSECONDS.sleep(delay.toNanos());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw concurrentModification(id, failure);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void patch(final I id, final Map<String, ?> changes) {
+        notNull(id, "id for patch cannot be null.");
+        notEmpty(changes, "changes for patch cannot be null or empty.");
+        if (logger.isTraceEnabled()) {
+            logger.trace("Patching {} properties of {} with id:'{}'...", changes.keySet(), entityName, id);
+        }
+
+        final long startNanos = startTimer();
+        assurePatchInvariants(id, changes);
+        doPatch(id, changes);
+        evictFromCache(singleton(id));
+        stopTimer("patch", startNanos);
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Successfully patched {} properties of {} with id:'{}'.", changes.keySet(), entityName, id);
+        }
+    }
+
+    protected void assurePatchInvariants(final I id, final Map<String, ?> changes) {
+        notNull(id, "id for patch cannot be null.");
+        notEmpty(changes, "changes for patch cannot be null or empty.");
+        changes.keySet().forEach(property -> hasText(property, "property for patch cannot be null or blank."));
+        isTrue(!changes.containsKey(ID_PROPERTY), "id of patch entity cannot be changed.");
+    }
+
+    /**
+     * Sets given properties of the entity with given id.
+     * <p>
+     * If the repository is a {@link PatchingRepository}, the entity is updated with a targeted statement, without
+     * being loaded. Otherwise it is loaded, its properties are set through their setters and it is saved, once
+     * {@link #assureUpdateInvariants(Identifiable)} passes.
+     *
+     * @param id      id of the entity to be patched.
+     * @param changes new values keyed by property names.
+     * @throws ResourceNotFoundException if no entity is found by {@literal id}.
+     */
+    protected void doPatch(final I id, final Map<String, ?> changes) {
+        if (crudRepository instanceof PatchingRepository) {
+            final int patchedCount = ((PatchingRepository<T, I>) crudRepository).patchById(id, changes);
+            if (patchedCount == 0) {
+                throw ResourceNotFoundException.createInstance(entityName, "id", id);
+            }
+            return;
+        }
+
+        final T entity = crudRepository
+                .findById(id)
+                .orElseThrow(() -> ResourceNotFoundException.createInstance(entityName, "id", id));
+        PropertyAccessorFactory.forBeanPropertyAccess(entity).setPropertyValues(changes);
+        assureUpdateInvariants(entity);
+        crudRepository.save(entity);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Optional<T> find(final I id) {
         notNull(id, "id for find by id cannot be null.");
-        logger.trace("Finding {} by id:'{}'...", entityClass.getSimpleName(), id);
+        if (logger.isTraceEnabled()) {
+            logger.trace("Finding {} by id:'{}'...", entityName, id);
+        }
 
-        final Optional<T> entityOpt = crudRepository.findById(id);
+        final long startNanos = startTimer();
+        final EntityCache entityCache = getEntityCache();
+        final T cached = entityCache.get(entityClass, id);
+        if (cached != null) {
+            stopTimer("find", startNanos);
+            recordFind(true);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Successfully found {} by id:'{}' in cache.", entityName, id);
+            }
+            return Optional.of(cached);
+        }
+
+        final Optional<T> entityOpt = isSingleFlightEnabled()
+                                      ? findSingleFlight.execute(id, () -> findByIdAndCache(entityCache, id))
+                                      : findByIdAndCache(entityCache, id);
+        stopTimer("find", startNanos);
+        recordFind(entityOpt.isPresent());
 
         if (entityOpt.isPresent()) {
-            logger.debug("Successfully found {} by id:'{}'.", entityClass.getSimpleName(), id);
-        } else {
-            logger.debug("No {} has been found by id:'{}'.", entityClass.getSimpleName(), id);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Successfully found {} by id:'{}'.", entityName, id);
+            }
+        } else if (logger.isDebugEnabled()) {
+            logger.debug("No {} has been found by id:'{}'.", entityName, id);
         }
 
         return entityOpt;
     }
 
+    /**
+     * Caches the entity within the transaction of the caller which loaded it, as callers joining an in-flight lookup
+     * didn't read it themselves.
+     */
+    private Optional<T> findByIdAndCache(final EntityCache entityCache, final I id) {
+        final long[] evictionSnapshot = snapshotCacheEvictions(entityCache);
+        final Optional<T> entityOpt = crudRepository.findById(id);
+        entityOpt.ifPresent(entity -> putIntoCache(entityCache, singletonList(entity), evictionSnapshot));
+        return entityOpt;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public T get(final I id) {
         notNull(id, "id for get by id cannot be null.");
-        logger.trace("Getting {} by id:'{}'...", entityClass.getSimpleName(), id);
+        if (logger.isTraceEnabled()) {
+            logger.trace("Getting {} by id:'{}'...", entityName, id);
+        }
 
+        final long startNanos = startTimer();
         final Optional<T> entityOpt = find(id);
+        stopTimer("get", startNanos);
 
         if (entityOpt.isPresent()) {
-            logger.debug("Successfully got {} by id:'{}'.", entityClass.getSimpleName(), id);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Successfully got {} by id:'{}'.", entityName, id);
+            }
             return entityOpt.get();
         }
 
-        logger.debug("No {} has been found by id:'{}'. Nothing to get.", entityClass.getSimpleName(), id);
-        throw ResourceNotFoundException.createInstance(entityClass, "id", id);
+        if (logger.isDebugEnabled()) {
+            logger.debug("No {} has been found by id:'{}'. Nothing to get.", entityName, id);
+        }
+        throw ResourceNotFoundException.createInstance(entityName, "id", id);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<T> getAll() {
-        logger.trace("Getting all {}s...", entityClass.getSimpleName());
+        if (logger.isTraceEnabled()) {
+            logger.trace("Getting all {}s...", entityName);
+        }
 
+        final long startNanos = startTimer();
         final List<T> entities = StreamSupport
                 .stream(crudRepository.findAll().spliterator(), false)
                 .collect(Collectors.toList());
+        stopTimer("getAll", startNanos);
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Successfully got {} {}s.", entities.size(), entityName);
+        }
+        return entities;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachEntity(final Consumer<? super T> action) {
+        notNull(action, "action for each entity cannot be null.");
+        if (logger.isTraceEnabled()) {
+            logger.trace("Iterating over all {}s...", entityName);
+        }
+
+        final long startNanos = startTimer();
+        long count = 0;
+        try (final Stream<T> entities = doStreamAll()) {
+            final Iterator<T> iterator = entities.iterator();
+            while (iterator.hasNext()) {
+                action.accept(iterator.next());
+                count++;
+            }
+        }
+        stopTimer("forEachEntity", startNanos);
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Successfully iterated over {} {}s.", count, entityName);
+        }
+    }
+
+    /**
+     * Returns a lazily populated {@link Stream} of all entities. It is always consumed and closed inside a read-only
+     * transaction.
+     * <p>
+     * If the repository is a {@link KeysetPagingRepository} or a {@link PagingAndSortingRepository}, entities are read
+     * page by page ordered by id, {@link #getStreamFetchSize()} entities at a time, calling {@link #flushAndClear()}
+     * between pages. Keyset pages are preferred, as their cost doesn't grow with depth.
+     * Otherwise an {@link IllegalStateException} is thrown rather than loading every entity at once.
+     * <p>
+     * Subclasses having a cursor-based repository method, e.g. a Spring Data JPA query returning {@link Stream}
+     * with a fetch size hint, should override it.
+     *
+     * @return stream of all entities; never {@literal null}.
+     * @throws IllegalStateException in case the repository supports neither keyset nor offset paging.
+     */
+    protected Stream<T> doStreamAll() {
+        if (crudRepository instanceof KeysetPagingRepository) {
+            return StreamSupport.stream(
+                    new BatchSpliterator<T>(
+                            getStreamFetchSize(),
+                            (batchIndex, lastEntity, batchSize) -> findPageAfter(
+                                    lastEntity == null ? null : lastEntity.getId(),
+                                    batchSize
+                            ),
+                            this::flushAndClear
+                    ),
+                    false
+            );
+        }
+        if (!(crudRepository instanceof PagingAndSortingRepository)) {
+            throw new IllegalStateException(String.format(
+                    "%s should be backed by %s or %s to iterate over entities in batches",
+                    getClass().getSimpleName(),
+                    KeysetPagingRepository.class.getSimpleName(),
+                    PagingAndSortingRepository.class.getSimpleName()
+            ));
+        }
+
+        final PagingAndSortingRepository<T, I> pagingRepository = (PagingAndSortingRepository<T, I>) crudRepository;
+        final Sort sort = Sort.by(ID_PROPERTY);
+        return StreamSupport.stream(
+                new BatchSpliterator<>(
+                        getStreamFetchSize(),
+                        (batchIndex, lastEntity, batchSize) -> pagingRepository
+                                .findAll(PageRequest.of(batchIndex, batchSize, sort))
+                                .getContent(),
+                        this::flushAndClear
+                ),
+                false
+        );
+    }
+
+    /**
+     * @return the maximum number of entities held in memory at once by {@link #forEachEntity(Consumer)}.
+     */
+    protected int getStreamFetchSize() {
+        return 500;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<T> getPage(final Pageable pageable) {
+        notNull(pageable, "pageable for get page cannot be null.");
+        if (!(crudRepository instanceof PagingAndSortingRepository)) {
+            throw new IllegalStateException(String.format(
+                    "%s should be backed by %s to get pages",
+                    getClass().getSimpleName(),
+                    PagingAndSortingRepository.class.getSimpleName()
+            ));
+        }
+        if (logger.isTraceEnabled()) {
+            logger.trace("Getting a page of {}s by {}...", entityName, pageable);
+        }
 
-        logger.debug("Successfully got {} {}s.", entities.size(), entityClass.getSimpleName());
+        final long startNanos = startTimer();
+        final Page<T> page = ((PagingAndSortingRepository<T, I>) crudRepository).findAll(pageable);
+        stopTimer("getPage", startNanos);
+
+        if (logger.isDebugEnabled()) {
+            logger.debug(
+                    "Successfully got {} {}s of page {}.",
+                    page.getNumberOfElements(),
+                    entityName,
+                    page.getNumber()
+            );
+        }
+        return page;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<T> getPageAfter(final I lastId, final int size) {
+        isTrue(size > 0, "size of page cannot be less than 1.");
+        if (logger.isTraceEnabled()) {
+            logger.trace("Getting {} {}s after id:'{}'...", size, entityName, lastId);
+        }
+
+        final long startNanos = startTimer();
+        final List<T> entities = findPageAfter(lastId, size);
+        stopTimer("getPageAfter", startNanos);
+
+        if (logger.isDebugEnabled()) {
+            logger.debug(
+                    "Successfully got {} {}s after id:'{}'.",
+                    entities.size(),
+                    entityName,
+                    lastId
+            );
+        }
         return entities;
     }
 
+    private List<T> findPageAfter(final I lastId, final int size) {
+        if (!(crudRepository instanceof KeysetPagingRepository)) {
+            throw new IllegalStateException(String.format(
+                    "%s should be backed by %s to get pages by keyset",
+                    getClass().getSimpleName(),
+                    KeysetPagingRepository.class.getSimpleName()
+            ));
+        }
+
+        final KeysetPagingRepository<T, I> keysetRepository = (KeysetPagingRepository<T, I>) crudRepository;
+        final Pageable firstPage = PageRequest.of(0, size);
+        return lastId == null
+               ? keysetRepository.findAllByOrderByIdAsc(firstPage)
+               : keysetRepository.findAllByIdGreaterThanOrderByIdAsc(lastId, firstPage);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<T> getByIds(final Collection<? extends I> ids) {
         notEmpty(ids, "ids for get by ids cannot be null or empty.");
         ids.forEach(id -> notNull(id, "id for get by id cannot be null."));
-        logger.trace("Getting {} {}s by ids...", ids.size(), entityClass.getSimpleName());
+        if (logger.isTraceEnabled()) {
+            logger.trace("Getting {} {}s by ids...", ids.size(), entityName);
+        }
 
-        final List<T> entities = StreamSupport
-                .stream(crudRepository.findAllById(new ArrayList<>(ids)).spliterator(), false)
-                .collect(Collectors.toList());
+        final long startNanos = startTimer();
+        recordBatchSize("getByIds", ids.size());
+        final List<T> entities = findAllByIds(ids);
+        stopTimer("getByIds", startNanos);
 
-        logger.debug(
-                "Successfully got {} from {} requested {}s by ids.",
-                entities.size(),
-                ids.size(),
-                entityClass.getSimpleName()
-        );
+        if (logger.isDebugEnabled()) {
+            logger.debug(
+                    "Successfully got {} from {} requested {}s by ids.",
+                    entities.size(),
+                    ids.size(),
+                    entityName
+            );
+        }
+        return entities;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<I, T> getMapByIds(final Collection<? extends I> ids) {
+        notEmpty(ids, "ids for get by ids cannot be null or empty.");
+        ids.forEach(id -> notNull(id, "id for get by id cannot be null."));
+        if (logger.isTraceEnabled()) {
+            logger.trace("Getting {} {}s mapped by ids...", ids.size(), entityName);
+        }
+
+        final long startNanos = startTimer();
+        recordBatchSize("getMapByIds", ids.size());
+        final Map<I, T> entities = mapById(findAllByIds(ids));
+        stopTimer("getMapByIds", startNanos);
+
+        if (logger.isDebugEnabled()) {
+            logger.debug(
+                    "Successfully got {} from {} requested {}s mapped by ids.",
+                    entities.size(),
+                    ids.size(),
+                    entityName
+            );
+        }
+        return entities;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<T> getByIdsInOrder(final Collection<? extends I> ids) {
+        notEmpty(ids, "ids for get by ids cannot be null or empty.");
+        ids.forEach(id -> notNull(id, "id for get by id cannot be null."));
+        if (logger.isTraceEnabled()) {
+            logger.trace("Getting {} {}s by ids in order...", ids.size(), entityName);
+        }
+
+        final long startNanos = startTimer();
+        recordBatchSize("getByIdsInOrder", ids.size());
+        final Map<I, T> entitiesById = mapById(findAllByIds(ids));
+        final List<T> entities = new ArrayList<>(ids.size());
+        for (final I id : ids) {
+            final T entity = entitiesById.get(id);
+            if (entity != null) {
+                entities.add(entity);
+            }
+        }
+        stopTimer("getByIdsInOrder", startNanos);
+
+        if (logger.isDebugEnabled()) {
+            logger.debug(
+                    "Successfully got {} from {} requested {}s by ids in order.",
+                    entities.size(),
+                    ids.size(),
+                    entityName
+            );
+        }
+        return entities;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean exists(final I id) {
+        notNull(id, "id for exists by id cannot be null.");
+        if (logger.isTraceEnabled()) {
+            logger.trace("Checking whether {} with id:'{}' exists...", entityName, id);
+        }
+
+        final long startNanos = startTimer();
+        final boolean exists = getEntityCache().get(entityClass, id) != null || crudRepository.existsById(id);
+        stopTimer("exists", startNanos);
+
+        if (logger.isDebugEnabled()) {
+            logger.debug(
+                    "Successfully checked that {} with id:'{}' {}.",
+                    entityName,
+                    id,
+                    exists ? "exists" : "doesn't exist"
+            );
+        }
+        return exists;
+    }
+
+    /**
+     * Consults the entity cache first. Remaining ids are checked through {@link IdProjectingRepository#findIdsByIdIn}
+     * if the repository is an {@link IdProjectingRepository}, without loading entities. Otherwise the entities are
+     * loaded, one chunk of {@link #getFindChunkSize()} ids per statement, and cached. That is preferred over one
+     * {@link CrudRepository#existsById} statement per id, as round trips usually cost more than loading the entities.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Set<I> existsAll(final Collection<? extends I> ids) {
+        notEmpty(ids, "ids for exists by ids cannot be null or empty.");
+        ids.forEach(id -> notNull(id, "id for exists by id cannot be null."));
+        if (logger.isTraceEnabled()) {
+            logger.trace("Checking which of {} {}s exist by ids...", ids.size(), entityName);
+        }
+
+        final long startNanos = startTimer();
+        recordBatchSize("existsAll", ids.size());
+        final EntityCache entityCache = getEntityCache();
+        final Set<I> existingIds = new HashSet<>(hashCapacity(ids.size()));
+        final Set<I> missingIds = new LinkedHashSet<>(hashCapacity(ids.size()));
+        for (final I id : ids) {
+            if (entityCache.get(entityClass, id) != null) {
+                existingIds.add(id);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        if (!missingIds.isEmpty()) {
+            existingIds.addAll(findExistingIds(missingIds));
+        }
+        stopTimer("existsAll", startNanos);
+
+        if (logger.isDebugEnabled()) {
+            logger.debug(
+                    "Successfully checked that {} from {} requested {}s exist by ids.",
+                    existingIds.size(),
+                    ids.size(),
+                    entityName
+            );
+        }
+        return existingIds;
+    }
+
+    /**
+     * Selects ids of existing entities among the given ones. Ids are checked in chunks of at most
+     * {@link #getFindChunkSize()} ids, through {@link IdProjectingRepository} if the repository is one.
+     * Otherwise the entities are loaded, and cached, to check their existence.
+     */
+    private Collection<I> findExistingIds(final Set<I> ids) {
+        if (!(crudRepository instanceof IdProjectingRepository)) {
+            final EntityCache entityCache = getEntityCache();
+            final long[] evictionSnapshot = snapshotCacheEvictions(entityCache);
+            final List<T> entities = toList(findAllById(ids), ids.size());
+            putIntoCache(entityCache, entities, evictionSnapshot);
+            return entities.stream().map(Identifiable::getId).collect(Collectors.toList());
+        }
+
+        final IdProjectingRepository<T, I> idProjectingRepository = (IdProjectingRepository<T, I>) crudRepository;
+        final int chunkSize = getFindChunkSize();
+        if (ids.size() <= chunkSize) {
+            return idProjectingRepository.findIdsByIdIn(Collections.unmodifiableSet(ids));
+        }
+
+        final List<I> existingIds = new ArrayList<>(ids.size());
+        final List<I> chunk = new ArrayList<>(chunkSize);
+        for (final I id : ids) {
+            chunk.add(id);
+            if (chunk.size() == chunkSize) {
+                existingIds.addAll(idProjectingRepository.findIdsByIdIn(chunk));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            existingIds.addAll(idProjectingRepository.findIdsByIdIn(chunk));
+        }
+        return existingIds;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long count() {
+        if (logger.isTraceEnabled()) {
+            logger.trace("Counting all {}s...", entityName);
+        }
+
+        final long startNanos = startTimer();
+        final long count = crudRepository.count();
+        stopTimer("count", startNanos);
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Successfully counted {} {}s.", count, entityName);
+        }
+        return count;
+    }
+
+    private Map<I, T> mapById(final Collection<T> entities) {
+        final Map<I, T> entitiesById = new HashMap<>(hashCapacity(entities.size()));
+        for (final T entity : entities) {
+            entitiesById.put(entity.getId(), entity);
+        }
+        return entitiesById;
+    }
+
+    private static int hashCapacity(final int expectedSize) {
+        return (int) (expectedSize / 0.75f) + 1;
+    }
+
+    private List<T> findAllByIds(final Collection<? extends I> ids) {
+        final EntityCache entityCache = getEntityCache();
+        if (entityCache == EntityCache.none()) {
+            return toList(findAllById(ids), ids.size());
+        }
+
+        final Collection<? extends I> uniqueIds = ids instanceof Set ? ids : new LinkedHashSet<>(ids);
+        final List<T> entities = new ArrayList<>(uniqueIds.size());
+        final List<I> missingIds = new ArrayList<>(uniqueIds.size());
+        for (final I id : uniqueIds) {
+            final T cached = entityCache.get(entityClass, id);
+            if (cached != null) {
+                entities.add(cached);
+            } else {
+                missingIds.add(id);
+            }
+        }
+
+        if (!missingIds.isEmpty()) {
+            final long[] evictionSnapshot = snapshotCacheEvictions(entityCache);
+            final List<T> loaded = toList(findAllById(missingIds), missingIds.size());
+            putIntoCache(entityCache, loaded, evictionSnapshot);
+            entities.addAll(loaded);
+        }
+        return entities;
+    }
+
+    /**
+     * Copies given elements into a new list, as lists returned by repositories may be immutable or owned by them.
+     */
+    private static <E> List<E> toList(final Iterable<E> iterable, final int expectedSize) {
+        if (iterable instanceof Collection) {
+            return new ArrayList<>((Collection<E>) iterable);
+        }
+
+        final List<E> list = new ArrayList<>(expectedSize);
+        iterable.forEach(list::add);
+        return list;
+    }
+
+    private Iterable<T> findAllById(final Collection<? extends I> ids) {
+        final Duration window = getByIdsCoalescingWindow();
+        if (window.isZero()) {
+            return findAllByIdInChunks(ids);
+        }
+
+        BatchCoalescer<I, T> coalescer = getByIdsCoalescer;
+        if (coalescer == null) {
+            synchronized (this) {
+                coalescer = getByIdsCoalescer;
+                if (coalescer == null) {
+                    coalescer = new BatchCoalescer<>(window.toNanos(), getByIdsCoalescingMaxSize(), this::findMapById);
+                    getByIdsCoalescer = coalescer;
+                }
+            }
+        }
+        return coalescer.load(ids).values();
+    }
+
+    private Iterable<T> findAllByIdInChunks(final Collection<? extends I> ids) {
+        final int chunkSize = getFindChunkSize();
+        final boolean padded = isFindChunkPaddingEnabled();
+        if (ids.size() <= chunkSize && !padded) {
+            return crudRepository.findAllById(Collections.unmodifiableCollection(ids));
+        }
+
+        final List<List<I>> chunks = new ArrayList<>(ids.size() / chunkSize + 1);
+        List<I> chunk = new ArrayList<>(Math.min(chunkSize, ids.size()));
+        for (final I id : ids) {
+            chunk.add(id);
+            if (chunk.size() == chunkSize) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(padded ? pad(chunk, chunkSize) : chunk);
+        }
+
+        final List<T> entities = new ArrayList<>(ids.size());
+        final Executor executor = getFindChunkExecutor();
+        if (executor == null || chunks.size() == 1) {
+            chunks.forEach(idsChunk -> crudRepository.findAllById(idsChunk).forEach(entities::add));
+            return entities;
+        }
+
+        final List<CompletableFuture<Iterable<T>>> futures = new ArrayList<>(chunks.size());
+        chunks.forEach(idsChunk -> futures.add(
+                CompletableFuture.supplyAsync(() -> crudRepository.findAllById(idsChunk), executor)
+        ));
+        futures.forEach(future -> SingleFlight.await(future).forEach(entities::add));
+        return entities;
+    }
+
+    /**
+     * Pads given ids, by repeating the last one, up to the closest power of two not exceeding {@literal maxSize}.
+     */
+    private static <I> List<I> pad(final List<I> ids, final int maxSize) {
+        final int size = ids.size();
+        final int paddedSize = Math.min(maxSize, size == 1 ? 1 : Integer.highestOneBit(size - 1) << 1);
+        final I last = ids.get(size - 1);
+        for (int i = size; i < paddedSize; i++) {
+            ids.add(last);
+        }
+        return ids;
+    }
+
+    private Map<I, T> findMapById(final Set<I> ids) {
+        final Map<I, T> entities = new HashMap<>(hashCapacity(ids.size()));
+        findAllByIdInChunks(ids).forEach(entity -> entities.put(entity.getId(), entity));
         return entities;
     }
 
@@ -193,11 +1307,18 @@ public abstract class AbstractCrudService<T extends Identifiable<I>, I extends S
     @Transactional
     public void delete(final I id) {
         notNull(id, "id for delete by id cannot be null.");
-        logger.trace("Deleting {} by id:'{}'...", entityClass.getSimpleName(), id);
+        if (logger.isTraceEnabled()) {
+            logger.trace("Deleting {} by id:'{}'...", entityName, id);
+        }
 
+        final long startNanos = startTimer();
         doDelete(id);
+        evictFromCache(singleton(id));
+        stopTimer("delete", startNanos);
 
-        logger.debug("Successfully deleted {} by id:'{}'.", entityClass.getSimpleName(), id);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Successfully deleted {} by id:'{}'.", entityName, id);
+        }
     }
 
     protected void doDelete(final I id) {
@@ -206,12 +1327,35 @@ public abstract class AbstractCrudService<T extends Identifiable<I>, I extends S
     }
 
     @Override
+    @Transactional
     public void deleteAll() {
-        logger.trace("Deleting all {}s...", entityClass.getSimpleName());
+        if (logger.isTraceEnabled()) {
+            logger.trace("Deleting all {}s...", entityName);
+        }
 
-        crudRepository.deleteAll();
+        final long startNanos = startTimer();
+        doDeleteAll();
+        evictAllFromCache();
+        stopTimer("deleteAll", startNanos);
 
-        logger.debug("Successfully deleted all {}s.", entityClass.getSimpleName());
+        if (logger.isDebugEnabled()) {
+            logger.debug("Successfully deleted all {}s.", entityName);
+        }
+    }
+
+    /**
+     * Deletes all entities.
+     * <p>
+     * If the repository is a {@link BatchDeletingRepository}, a single set-based delete statement is issued.
+     * Otherwise {@link CrudRepository#deleteAll()} is used, which might load and delete entities one by one.
+     * Subclasses allowed to truncate the underlying table may override it to do so.
+     */
+    protected void doDeleteAll() {
+        if (crudRepository instanceof BatchDeletingRepository) {
+            ((BatchDeletingRepository<T, I>) crudRepository).deleteAllInBatch();
+        } else {
+            crudRepository.deleteAll();
+        }
     }
 
     @Override
@@ -219,15 +1363,179 @@ public abstract class AbstractCrudService<T extends Identifiable<I>, I extends S
     public void deleteByIds(final Collection<? extends I> ids) {
         notEmpty(ids, "ids for delete by ids cannot be null or empty.");
         ids.forEach(id -> notNull(id, "id for delete by id cannot be null."));
-        logger.trace("Deleting {} {}s by ids...", ids.size(), entityClass.getSimpleName());
+        if (logger.isTraceEnabled()) {
+            logger.trace("Deleting {} {}s by ids...", ids.size(), entityName);
+        }
 
+        final long startNanos = startTimer();
+        recordBatchSize("deleteByIds", ids.size());
         doDelete(ids);
+        evictFromCache(ids);
+        stopTimer("deleteByIds", startNanos);
 
-        logger.debug("Successfully deleted {} {}s by ids.", ids.size(), entityClass.getSimpleName());
+        if (logger.isDebugEnabled()) {
+            logger.debug("Successfully deleted {} {}s by ids.", ids.size(), entityName);
+        }
     }
 
+    /**
+     * Deletes entities with given ids.
+     * <p>
+     * If the repository is a {@link BatchDeletingRepository}, entities are deleted with set-based statements of at most
+     * {@link #getDeleteChunkSize()} ids each. Otherwise {@link #doDelete(Serializable)} is invoked for each id.
+     * Subclasses relying on {@link #doDelete(Serializable)} being invoked for each id should override this method
+     * with {@code ids.forEach(this::doDelete)}.
+     *
+     * @param ids ids of entities to be deleted.
+     */
     protected void doDelete(final Collection<? extends I> ids) {
         notEmpty(ids, "ids for delete by ids cannot be null or empty.");
-        ids.forEach(this::doDelete);
+        if (!(crudRepository instanceof BatchDeletingRepository)) {
+            ids.forEach(this::doDelete);
+            return;
+        }
+
+        final BatchDeletingRepository<T, I> batchDeletingRepository = (BatchDeletingRepository<T, I>) crudRepository;
+        final int chunkSize = getDeleteChunkSize();
+        if (ids.size() <= chunkSize) {
+            batchDeletingRepository.deleteAllByIdInBatch(Collections.unmodifiableCollection(ids));
+            return;
+        }
+
+        final List<I> chunk = new ArrayList<>(chunkSize);
+        for (final I id : ids) {
+            chunk.add(id);
+            if (chunk.size() == chunkSize) {
+                batchDeletingRepository.deleteAllByIdInBatch(chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            batchDeletingRepository.deleteAllByIdInBatch(chunk);
+        }
+    }
+
+    /**
+     * @return the maximum number of ids passed to a single set-based delete statement.
+     */
+    protected int getDeleteChunkSize() {
+        return 1000;
+    }
+
+    /**
+     * Must be taken before loading entities to be passed to {@link #putIntoCache(EntityCache, List, long[])}.
+     *
+     * @return snapshot of cache evictions or {@literal null} if caching is disabled.
+     */
+    private long[] snapshotCacheEvictions(final EntityCache entityCache) {
+        return entityCache == EntityCache.none() ? null : cacheEvictionStamps.snapshot();
+    }
+
+    /**
+     * Caches given entities once the surrounding transaction commits, or immediately if there is no transaction.
+     * Entities whose ids have been evicted since the given snapshot are skipped, as they may predate a committed write.
+     */
+    private void putIntoCache(final EntityCache entityCache, final List<T> entities, final long[] evictionSnapshot) {
+        if (entityCache == EntityCache.none() || entities.isEmpty()) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            entities.forEach(entity -> putIntoCache(entityCache, entity, evictionSnapshot));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                entities.forEach(entity -> putIntoCache(entityCache, entity, evictionSnapshot));
+            }
+        });
+    }
+
+    /**
+     * Evictions mark the stamps before removing entries, so checking them again after the put removes an entry
+     * which an eviction racing with the put might have missed.
+     */
+    private void putIntoCache(final EntityCache entityCache, final T entity, final long[] evictionSnapshot) {
+        final I id = entity.getId();
+        if (cacheEvictionStamps.isEvictedSince(evictionSnapshot, id)) {
+            return;
+        }
+
+        entityCache.put(entityClass, id, entity);
+        if (cacheEvictionStamps.isEvictedSince(evictionSnapshot, id)) {
+            entityCache.evict(entityClass, id);
+        }
+    }
+
+    private void evictFromCache(final Collection<? extends I> ids) {
+        final EntityCache entityCache = getEntityCache();
+        if (entityCache == EntityCache.none()) {
+            return;
+        }
+
+        ids.forEach(id -> evictFromCache(entityCache, id));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCompletion(final int status) {
+                    ids.forEach(id -> evictFromCache(entityCache, id));
+                }
+            });
+        }
+    }
+
+    private void evictFromCache(final EntityCache entityCache, final I id) {
+        cacheEvictionStamps.evicted(id);
+        entityCache.evict(entityClass, id);
+    }
+
+    private void evictEntitiesFromCache(final Collection<? extends T> entities) {
+        if (getEntityCache() == EntityCache.none()) {
+            return;
+        }
+
+        evictFromCache(entities.stream().map(Identifiable::getId).collect(Collectors.toList()));
+    }
+
+    private void evictAllFromCache() {
+        final EntityCache entityCache = getEntityCache();
+        if (entityCache == EntityCache.none()) {
+            return;
+        }
+
+        cacheEvictionStamps.evictedAll();
+        entityCache.evictAll(entityClass);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCompletion(final int status) {
+                    cacheEvictionStamps.evictedAll();
+                    entityCache.evictAll(entityClass);
+                }
+            });
+        }
+    }
+
+    private long startTimer() {
+        return crudMetrics.isEnabled() ? System.nanoTime() : 0L;
+    }
+
+    private void stopTimer(final String operation, final long startNanos) {
+        if (crudMetrics.isEnabled()) {
+            crudMetrics.recordOperation(entityClass, operation, System.nanoTime() - startNanos);
+        }
+    }
+
+    private void recordBatchSize(final String operation, final int batchSize) {
+        if (crudMetrics.isEnabled()) {
+            crudMetrics.recordBatchSize(entityClass, operation, batchSize);
+        }
+    }
+
+    private void recordFind(final boolean found) {
+        if (crudMetrics.isEnabled()) {
+            crudMetrics.recordFind(entityClass, found);
+        }
     }
 }
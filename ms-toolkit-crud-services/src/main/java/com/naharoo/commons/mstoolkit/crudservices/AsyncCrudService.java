@@ -0,0 +1,341 @@
+package com.naharoo.commons.mstoolkit.crudservices;
+
+import com.naharoo.commons.mstoolkit.domainmodel.Identifiable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import static org.springframework.util.Assert.notNull;
+
+/**
+ * Asynchronous view of a {@link CrudService}. Every operation is submitted to the configured {@link Executor} and
+ * its outcome is delivered through a {@link CompletableFuture}.
+ * <p>
+ * Operations run on executor threads, hence each of them runs in its own transaction, if the wrapped service is
+ * transactional. Transactions of the calling thread are never propagated.
+ * <p>
+ * Arguments are validated, and failures are reported, exactly as by the wrapped {@link CrudService}, except that they
+ * complete the returned {@link CompletableFuture} exceptionally instead of being thrown.
+ * <p>
+ * An instance created by {@link #newVirtualThreadInstance(CrudService)} owns its executor and shuts it down when
+ * {@link #close() closed}. Executors passed to {@link #newInstance(CrudService, Executor)} are left to their owners.
+ *
+ * @param <T> Managed Entity's type
+ * @param <I> Managed Entity's id's type
+ */
+public class AsyncCrudService<T extends Identifiable<I>, I extends Serializable> implements AutoCloseable {
+
+    private static final Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = findNewVirtualThreadPerTaskExecutor();
+
+    private final CrudService<T, I> crudService;
+    private final Executor executor;
+    private final boolean ownsExecutor;
+
+    private AsyncCrudService(final CrudService<T, I> crudService, final Executor executor, final boolean ownsExecutor) {
+        notNull(crudService, "crudService cannot be null.");
+        notNull(executor, "executor cannot be null.");
+        this.crudService = crudService;
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    /**
+     * Creates an instance running every operation on given executor. The executor is not shut down when the instance
+     * is {@link #close() closed}.
+     *
+     * @param crudService to run operations of. Must not be {@literal null}.
+     * @param executor    to run operations on. Must not be {@literal null}.
+     * @throws IllegalArgumentException in case the given {@literal crudService} or {@literal executor} is {@literal null}.
+     */
+    public static <T extends Identifiable<I>, I extends Serializable> AsyncCrudService<T, I> newInstance(
+            final CrudService<T, I> crudService,
+            final Executor executor
+    ) {
+        return new AsyncCrudService<>(crudService, executor, false);
+    }
+
+    /**
+     * Creates an instance running every operation on a new virtual thread. The instance owns its executor, hence it
+     * should be {@link #close() closed} when no longer used.
+     *
+     * @param crudService to run operations of. Must not be {@literal null}.
+     * @throws IllegalArgumentException in case the given {@literal crudService} is {@literal null}.
+     * @throws IllegalStateException    in case the running JVM doesn't support virtual threads.
+     * @see #isVirtualThreadSupported()
+     */
+    public static <T extends Identifiable<I>, I extends Serializable> AsyncCrudService<T, I> newVirtualThreadInstance(
+            final CrudService<T, I> crudService
+    ) {
+        return new AsyncCrudService<>(crudService, newVirtualThreadExecutor(), true);
+    }
+
+    /**
+     * @return whether the running JVM supports virtual threads.
+     */
+    public static boolean isVirtualThreadSupported() {
+        return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    private static Method findNewVirtualThreadPerTaskExecutor() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (final NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static ExecutorService newVirtualThreadExecutor() {
+        if (!isVirtualThreadSupported()) {
+            throw new IllegalStateException("Virtual threads are not supported by the running JVM");
+        }
+
+        try {
+            return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke(null);
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to create a virtual thread executor", e);
+        }
+    }
+
+    /**
+     * Asynchronously performs {@link CrudService#create(Identifiable)}.
+     *
+     * @param entity to be saved. Must not be {@literal null}. It must not have an id set.
+     * @return a future completed with the saved entity.
+     */
+    public CompletableFuture<T> create(final T entity) {
+        return CompletableFuture.supplyAsync(() -> crudService.create(entity), executor);
+    }
+
+    /**
+     * Asynchronously performs {@link CrudService#createAll(Collection)}.
+     *
+     * @param entities must not be {@literal null} nor must it contain {@literal null}. They must not have ids set.
+     * @return a future completed with the saved entities.
+     */
+    public CompletableFuture<List<T>> createAll(final Collection<? extends T> entities) {
+        return CompletableFuture.supplyAsync(() -> crudService.createAll(entities), executor);
+    }
+
+    /**
+     * Asynchronously performs {@link CrudService#update(Identifiable)}.
+     *
+     * @param entity to be saved. Must not be {@literal null}. It must have an id set.
+     * @return a future completed with the saved entity.
+     */
+    public CompletableFuture<T> update(final T entity) {
+        return CompletableFuture.supplyAsync(() -> crudService.update(entity), executor);
+    }
+
+    /**
+     * Asynchronously performs {@link CrudService#updateAll(Collection)}.
+     *
+     * @param entities must not be {@literal null} nor must it contain {@literal null}. They must have ids set.
+     * @return a future completed with the saved entities.
+     */
+    public CompletableFuture<List<T>> updateAll(final Collection<? extends T> entities) {
+        return CompletableFuture.supplyAsync(() -> crudService.updateAll(entities), executor);
+    }
+
+    /**
+     * Asynchronously performs {@link CrudService#upsertAll(Collection)}.
+     *
+     * @param entities must not be {@literal null} nor must it contain {@literal null}.
+     * @return a future completed with the saved entities.
+     */
+    public CompletableFuture<List<T>> upsertAll(final Collection<? extends T> entities) {
+        return CompletableFuture.supplyAsync(() -> crudService.upsertAll(entities), executor);
+    }
+
+    /**
+     * Asynchronously performs {@link CrudService#modify(Serializable, Consumer)}.
+     *
+     * @param id           must not be {@literal null}.
+     * @param modification to be applied to the entity. Must not be {@literal null}.
+     * @return a future completed with the saved entity.
+     */
+    public CompletableFuture<T> modify(final I id, final Consumer<? super T> modification) {
+        return CompletableFuture.supplyAsync(() -> crudService.modify(id, modification), executor);
+    }
+
+    /**
+     * Asynchronously performs {@link CrudService#patch(Serializable, Map)}.
+     *
+     * @param id      must not be {@literal null}.
+     * @param changes new values keyed by property names. Must not be {@literal null} nor empty.
+     * @return a future completed once the entity is patched.
+     */
+    public CompletableFuture<Void> patch(final I id, final Map<String, ?> changes) {
+        return CompletableFuture.runAsync(() -> crudService.patch(id, changes), executor);
+    }
+
+    /**
+     * Asynchronously performs {@link CrudService#find(Serializable)}.
+     *
+     * @param id must not be {@literal null}.
+     * @return a future completed with the entity with the given id or {@literal Optional#empty()} if none found.
+     */
+    public CompletableFuture<Optional<T>> find(final I id) {
+        return CompletableFuture.supplyAsync(() -> crudService.find(id), executor);
+    }
+
+    /**
+     * Asynchronously performs {@link CrudService#get(Serializable)}.
+     *
+     * @param id must not be {@literal null}.
+     * @return a future completed with the entity with the given id.
+     */
+    public CompletableFuture<T> get(final I id) {
+        return CompletableFuture.supplyAsync(() -> crudService.get(id), executor);
+    }
+
+    /**
+     * Asynchronously performs {@link CrudService#getAll()}.
+     *
+     * @return a future completed with all entities.
+     */
+    public CompletableFuture<List<T>> getAll() {
+        return CompletableFuture.supplyAsync(crudService::getAll, executor);
+    }
+
+    /**
+     * Asynchronously performs {@link CrudService#forEachEntity(Consumer)}.
+     *
+     * @param action must not be {@literal null}. It is performed on an executor thread.
+     * @return a future completed once the action is performed for every entity.
+     */
+    public CompletableFuture<Void> forEachEntity(final Consumer<? super T> action) {
+        return CompletableFuture.runAsync(() -> crudService.forEachEntity(action), executor);
+    }
+
+    /**
+     * Asynchronously performs {@link CrudService#getPage(Pageable)}.
+     *
+     * @param pageable must not be {@literal null}.
+     * @return a future completed with a page of entities.
+     */
+    public CompletableFuture<Page<T>> getPage(final Pageable pageable) {
+        return CompletableFuture.supplyAsync(() -> crudService.getPage(pageable), executor);
+    }
+
+    /**
+     * Asynchronously performs {@link CrudService#getPageAfter(Serializable, int)}.
+     *
+     * @param lastId id of the last entity of the previous page or {@literal null} to get the first page.
+     * @param size   maximum number of entities to return. Must be positive.
+     * @return a future completed with the page of entities.
+     */
+    public CompletableFuture<List<T>> getPageAfter(final I lastId, final int size) {
+        return CompletableFuture.supplyAsync(() -> crudService.getPageAfter(lastId, size), executor);
+    }
+
+    /**
+     * Asynchronously performs {@link CrudService#getByIds(Collection)}.
+     *
+     * @param ids must not be {@literal null} nor contain any {@literal null} values.
+     * @return a future completed with the entities found by given ids.
+     */
+    public CompletableFuture<List<T>> getByIds(final Collection<? extends I> ids) {
+        return CompletableFuture.supplyAsync(() -> crudService.getByIds(ids), executor);
+    }
+
+    /**
+     * Asynchronously performs {@link CrudService#getMapByIds(Collection)}.
+     *
+     * @param ids must not be {@literal null} nor contain any {@literal null} values.
+     * @return a future completed with the entities found by given ids, mapped by their ids.
+     */
+    public CompletableFuture<Map<I, T>> getMapByIds(final Collection<? extends I> ids) {
+        return CompletableFuture.supplyAsync(() -> crudService.getMapByIds(ids), executor);
+    }
+
+    /**
+     * Asynchronously performs {@link CrudService#getByIdsInOrder(Collection)}.
+     *
+     * @param ids must not be {@literal null} nor contain any {@literal null} values.
+     * @return a future completed with the entities found by given ids, in the iteration order of given ids.
+     */
+    public CompletableFuture<List<T>> getByIdsInOrder(final Collection<? extends I> ids) {
+        return CompletableFuture.supplyAsync(() -> crudService.getByIdsInOrder(ids), executor);
+    }
+
+    /**
+     * Asynchronously performs {@link CrudService#exists(Serializable)}.
+     *
+     * @param id must not be {@literal null}.
+     * @return a future completed with whether an entity with the given id exists.
+     */
+    public CompletableFuture<Boolean> exists(final I id) {
+        return CompletableFuture.supplyAsync(() -> crudService.exists(id), executor);
+    }
+
+    /**
+     * Asynchronously performs {@link CrudService#existsAll(Collection)}.
+     *
+     * @param ids must not be {@literal null} nor contain any {@literal null} values.
+     * @return a future completed with ids of existing entities.
+     */
+    public CompletableFuture<Set<I>> existsAll(final Collection<? extends I> ids) {
+        return CompletableFuture.supplyAsync(() -> crudService.existsAll(ids), executor);
+    }
+
+    /**
+     * Asynchronously performs {@link CrudService#count()}.
+     *
+     * @return a future completed with the number of entities.
+     */
+    public CompletableFuture<Long> count() {
+        return CompletableFuture.supplyAsync(crudService::count, executor);
+    }
+
+    /**
+     * Asynchronously performs {@link CrudService#delete(Serializable)}.
+     *
+     * @param id must not be {@literal null}.
+     * @return a future completed once the entity is deleted.
+     */
+    public CompletableFuture<Void> delete(final I id) {
+        return CompletableFuture.runAsync(() -> crudService.delete(id), executor);
+    }
+
+    /**
+     * Asynchronously performs {@link CrudService#deleteAll()}.
+     *
+     * @return a future completed once all entities are deleted.
+     */
+    public CompletableFuture<Void> deleteAll() {
+        return CompletableFuture.runAsync(crudService::deleteAll, executor);
+    }
+
+    /**
+     * Asynchronously performs {@link CrudService#deleteByIds(Collection)}.
+     *
+     * @param ids must not be {@literal null} nor contain any {@literal null} values.
+     * @return a future completed once the entities are deleted.
+     */
+    public CompletableFuture<Void> deleteByIds(final Collection<? extends I> ids) {
+        return CompletableFuture.runAsync(() -> crudService.deleteByIds(ids), executor);
+    }
+
+    /**
+     * Shuts down the executor if it is owned by this instance. Operations already submitted are completed, while
+     * subsequent ones are rejected.
+     */
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            ((ExecutorService) executor).shutdown();
+        }
+    }
+}
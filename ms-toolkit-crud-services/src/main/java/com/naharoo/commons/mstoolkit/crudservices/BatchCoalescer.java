@@ -0,0 +1,126 @@
+package com.naharoo.commons.mstoolkit.crudservices;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Merges keys requested by concurrent callers within a short window into a single batch load.
+ * <p>
+ * The first caller of a batch becomes its leader: it waits until the window elapses or the batch reaches its maximum
+ * size, then loads the whole batch on its own thread and hands every other caller its share of the result.
+ * A caller whose keys don't fit into the pending batch starts a new one.
+ * <p>
+ * A leader waits only while another batch is being loaded, since concurrent callers are expected then. Otherwise it
+ * loads its keys right away, so a lone caller doesn't pay the window.
+ */
+final class BatchCoalescer<K, V> {
+
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final Function<Set<K>, Map<K, V>> batchLoader;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private Batch<K, V> pending;
+    private int loadingBatchCount;
+
+    BatchCoalescer(final long windowNanos, final int maxBatchSize, final Function<Set<K>, Map<K, V>> batchLoader) {
+        this.windowNanos = windowNanos;
+        this.maxBatchSize = maxBatchSize;
+        this.batchLoader = batchLoader;
+    }
+
+    /**
+     * @return values found by given keys; missing keys are absent from the result.
+     */
+    Map<K, V> load(final Collection<? extends K> keys) {
+        final Batch<K, V> batch;
+        final boolean leader;
+
+        lock.lock();
+        try {
+            if (pending == null || pending.keys.size() + keys.size() > maxBatchSize) {
+                if (pending != null) {
+                    pending.full.signal();
+                }
+                pending = new Batch<>(lock.newCondition());
+                leader = true;
+            } else {
+                leader = false;
+            }
+            batch = pending;
+            batch.keys.addAll(keys);
+            if (batch.keys.size() >= maxBatchSize) {
+                batch.full.signal();
+            }
+
+            if (leader) {
+                if (loadingBatchCount > 0) {
+                    awaitBatch(batch);
+                } else {
+                    pending = null;
+                }
+                loadingBatchCount++;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (leader) {
+            try {
+                batch.result.complete(batchLoader.apply(batch.keys));
+            } catch (final RuntimeException | Error e) {
+                batch.result.completeExceptionally(e);
+                throw e;
+            } finally {
+                lock.lock();
+                try {
+                    loadingBatchCount--;
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+
+        final Map<K, V> loaded = SingleFlight.await(batch.result);
+        final Map<K, V> values = new HashMap<>((int) (keys.size() / 0.75f) + 1);
+        for (final K key : keys) {
+            final V value = loaded.get(key);
+            if (value != null) {
+                values.put(key, value);
+            }
+        }
+        return values;
+    }
+
+    private void awaitBatch(final Batch<K, V> batch) {
+        long remainingNanos = windowNanos;
+        try {
+            while (remainingNanos > 0 && pending == batch && batch.keys.size() < maxBatchSize) {
+                remainingNanos = batch.full.awaitNanos(remainingNanos);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (pending == batch) {
+            pending = null;
+        }
+    }
+
+    private static final class Batch<K, V> {
+
+        private final Set<K> keys = new LinkedHashSet<>();
+        private final CompletableFuture<Map<K, V>> result = new CompletableFuture<>();
+        private final Condition full;
+
+        private Batch(final Condition full) {
+            this.full = full;
+        }
+    }
+}
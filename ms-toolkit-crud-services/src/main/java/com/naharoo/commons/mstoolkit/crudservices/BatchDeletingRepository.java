@@ -0,0 +1,33 @@
+package com.naharoo.commons.mstoolkit.crudservices;
+
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.Repository;
+
+import java.io.Serializable;
+
+/**
+ * Repository fragment enabling set-based deletion in {@link AbstractCrudService}.
+ * <p>
+ * The method signatures match the ones of Spring Data JPA's {@code JpaRepository}, which implements
+ * {@link #deleteAllInBatch()} in all versions and {@link #deleteAllByIdInBatch(Iterable)} since 2.5.
+ * Repositories of other stores or older versions must implement them themselves,
+ * e.g. with a {@code @Modifying @Query("delete from Entity e where e.id in :ids")}.
+ *
+ * @param <T> Managed Entity's type
+ * @param <I> Managed Entity's id's type
+ */
+@NoRepositoryBean
+public interface BatchDeletingRepository<T, I extends Serializable> extends Repository<T, I> {
+
+    /**
+     * Deletes entities with given ids in a single statement, without loading them.
+     *
+     * @param ids must not be {@literal null} nor empty.
+     */
+    void deleteAllByIdInBatch(Iterable<I> ids);
+
+    /**
+     * Deletes all entities in a single statement, without loading them.
+     */
+    void deleteAllInBatch();
+}
@@ -0,0 +1,69 @@
+package com.naharoo.commons.mstoolkit.crudservices;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Sequential {@link Spliterator} which lazily reads elements batch by batch.
+ * Only the current batch is referenced at any time.
+ */
+final class BatchSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+    private final int batchSize;
+    private final BatchFetcher<T> fetcher;
+    private final Runnable betweenBatches;
+
+    private int batchIndex;
+    private T lastElement;
+    private Iterator<T> batchIterator;
+    private boolean lastBatch;
+
+    BatchSpliterator(final int batchSize, final BatchFetcher<T> fetcher, final Runnable betweenBatches) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+        this.batchSize = batchSize;
+        this.fetcher = fetcher;
+        this.betweenBatches = betweenBatches;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        if (batchIterator == null || !batchIterator.hasNext()) {
+            if (!fetchNextBatch()) {
+                return false;
+            }
+        }
+
+        lastElement = batchIterator.next();
+        action.accept(lastElement);
+        return true;
+    }
+
+    private boolean fetchNextBatch() {
+        if (lastBatch) {
+            return false;
+        }
+        if (batchIndex > 0) {
+            betweenBatches.run();
+        }
+
+        final List<T> batch = fetcher.fetch(batchIndex++, lastElement, batchSize);
+        lastBatch = batch.size() < batchSize;
+        batchIterator = batch.iterator();
+        return batchIterator.hasNext();
+    }
+
+    @FunctionalInterface
+    interface BatchFetcher<T> {
+
+        /**
+         * @param batchIndex  zero-based index of the requested batch.
+         * @param lastElement last element of the previous batch or {@literal null} for the first batch.
+         * @param batchSize   maximum number of elements to be fetched.
+         * @return the next batch; empty if there are no more elements.
+         */
+        List<T> fetch(int batchIndex, T lastElement, int batchSize);
+    }
+}
@@ -0,0 +1,192 @@
+package com.naharoo.commons.mstoolkit.crudservices;
+
+import com.naharoo.commons.mstoolkit.domainmodel.Identifiable;
+import com.naharoo.commons.mstoolkit.exceptions.ResourceNotFoundException;
+import org.springframework.core.GenericTypeResolver;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.util.Assert.isTrue;
+import static org.springframework.util.Assert.notNull;
+
+/**
+ * Collects lookups by id issued within a short window, from any number of threads, and resolves them with a single
+ * {@link CrudService#getMapByIds} call. Every caller gets the outcome of its own id.
+ * <p>
+ * A batch is dispatched when the window started by its first id elapses, when it reaches the maximum batch size or
+ * when {@link #dispatch()} is invoked explicitly, whichever happens first. Batches are resolved on the dispatching
+ * thread, within their own transaction.
+ * <p>
+ * Blocking lookups wait for their batch to be dispatched, hence for up to the whole window. A single thread issuing
+ * lookups one after another pays the window for each of them; it should rather {@link #load} all ids first and then
+ * {@link #dispatch()} them.
+ *
+ * @param <T> Managed Entity's type
+ * @param <I> Managed Entity's id's type
+ */
+public class BatchingEntityLoader<T extends Identifiable<I>, I extends Serializable> {
+
+    private final CrudService<T, I> crudService;
+    private final String entityName;
+    private final int maxBatchSize;
+    private final long windowNanos;
+    private final ScheduledExecutorService scheduler;
+
+    private final Object lock = new Object();
+    private Map<I, CompletableFuture<Optional<T>>> pending = new LinkedHashMap<>();
+    private long batchNumber;
+
+    private BatchingEntityLoader(
+            final CrudService<T, I> crudService,
+            final int maxBatchSize,
+            final Duration window,
+            final ScheduledExecutorService scheduler
+    ) {
+        notNull(crudService, "crudService cannot be null.");
+        isTrue(maxBatchSize > 0, "maxBatchSize must be positive.");
+        notNull(window, "window cannot be null.");
+        isTrue(!window.isNegative() && !window.isZero(), "window must be positive.");
+        notNull(scheduler, "scheduler cannot be null.");
+
+        this.crudService = crudService;
+        this.entityName = resolveEntityName(crudService);
+        this.maxBatchSize = maxBatchSize;
+        this.windowNanos = window.toNanos();
+        this.scheduler = scheduler;
+    }
+
+    public static <T extends Identifiable<I>, I extends Serializable> BatchingEntityLoader<T, I> newInstance(
+            final CrudService<T, I> crudService,
+            final int maxBatchSize,
+            final Duration window,
+            final ScheduledExecutorService scheduler
+    ) {
+        return new BatchingEntityLoader<>(crudService, maxBatchSize, window, scheduler);
+    }
+
+    private static String resolveEntityName(final CrudService<?, ?> crudService) {
+        final Class<?>[] classes = GenericTypeResolver.resolveTypeArguments(crudService.getClass(), CrudService.class);
+        return classes == null ? "entity" : classes[0].getSimpleName();
+    }
+
+    /**
+     * Enqueues the lookup of an entity by its id. Lookups of the same id within a batch share the same result.
+     *
+     * @param id must not be {@literal null}.
+     * @return future completed with the entity with the given id or {@literal Optional#empty()} if none found.
+     * @throws IllegalArgumentException if {@literal id} is {@literal null}.
+     */
+    public CompletableFuture<Optional<T>> load(final I id) {
+        notNull(id, "id for load by id cannot be null.");
+
+        final CompletableFuture<Optional<T>> future;
+        Map<I, CompletableFuture<Optional<T>>> fullBatch = null;
+        synchronized (lock) {
+            final CompletableFuture<Optional<T>> existing = pending.get(id);
+            if (existing != null) {
+                return existing;
+            }
+
+            future = new CompletableFuture<>();
+            pending.put(id, future);
+            if (pending.size() == 1) {
+                scheduleDispatch();
+            }
+            if (pending.size() >= maxBatchSize) {
+                fullBatch = takePending();
+            }
+        }
+
+        if (fullBatch != null) {
+            resolve(fullBatch);
+        }
+        return future;
+    }
+
+    /**
+     * Retrieves an entity by its id, waiting for the batch it has been added to, i.e. for up to the whole window.
+     *
+     * @param id must not be {@literal null}.
+     * @return the entity with the given id or {@literal Optional#empty()} if none found.
+     * @throws IllegalArgumentException if {@literal id} is {@literal null}.
+     */
+    public Optional<T> find(final I id) {
+        return SingleFlight.await(load(id));
+    }
+
+    /**
+     * Retrieves an entity by its id, waiting for the batch it has been added to, i.e. for up to the whole window.
+     *
+     * @param id must not be {@literal null}.
+     * @return the entity with the given id.
+     * @throws IllegalArgumentException  if {@literal id} is {@literal null}.
+     * @throws ResourceNotFoundException if no entity is found by {@literal id}.
+     */
+    public T get(final I id) {
+        return find(id).orElseThrow(() -> ResourceNotFoundException.createInstance(entityName, "id", id));
+    }
+
+    /**
+     * Resolves all pending lookups immediately, on the calling thread.
+     */
+    public void dispatch() {
+        final Map<I, CompletableFuture<Optional<T>>> batch;
+        synchronized (lock) {
+            batch = takePending();
+        }
+        resolve(batch);
+    }
+
+    /**
+     * Schedules the dispatch of the pending batch when its window elapses. If the scheduler rejects it, the batch is
+     * failed, so none of its callers waits forever.
+     */
+    private void scheduleDispatch() {
+        final long scheduledBatchNumber = batchNumber;
+        try {
+            scheduler.schedule(() -> dispatch(scheduledBatchNumber), windowNanos, TimeUnit.NANOSECONDS);
+        } catch (final RuntimeException e) {
+            final Map<I, CompletableFuture<Optional<T>>> batch = takePending();
+            batch.values().forEach(future -> future.completeExceptionally(e));
+            throw e;
+        }
+    }
+
+    private void dispatch(final long scheduledBatchNumber) {
+        final Map<I, CompletableFuture<Optional<T>>> batch;
+        synchronized (lock) {
+            if (scheduledBatchNumber != batchNumber) {
+                return;
+            }
+            batch = takePending();
+        }
+        resolve(batch);
+    }
+
+    private Map<I, CompletableFuture<Optional<T>>> takePending() {
+        final Map<I, CompletableFuture<Optional<T>>> batch = pending;
+        pending = new LinkedHashMap<>();
+        batchNumber++;
+        return batch;
+    }
+
+    private void resolve(final Map<I, CompletableFuture<Optional<T>>> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            final Map<I, T> entitiesById = crudService.getMapByIds(batch.keySet());
+            batch.forEach((id, future) -> future.complete(Optional.ofNullable(entitiesById.get(id))));
+        } catch (final RuntimeException | Error e) {
+            batch.values().forEach(future -> future.completeExceptionally(e));
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.naharoo.commons.mstoolkit.crudservices;
+
+/**
+ * Callback notified about the progress of chunked bulk writes.
+ */
+@FunctionalInterface
+public interface BulkWriteListener {
+
+    /**
+     * Invoked after each chunk has been written.
+     *
+     * @param writtenCount number of entities written so far, including the current chunk.
+     * @param totalCount   total number of entities to be written.
+     */
+    void onChunkWritten(int writtenCount, int totalCount);
+}
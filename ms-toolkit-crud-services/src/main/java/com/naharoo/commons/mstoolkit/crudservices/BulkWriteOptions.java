@@ -0,0 +1,87 @@
+package com.naharoo.commons.mstoolkit.crudservices;
+
+import static org.springframework.util.Assert.isTrue;
+import static org.springframework.util.Assert.notNull;
+
+/**
+ * Defines how {@link AbstractCrudService#createAll} and {@link AbstractCrudService#updateAll} hand entities
+ * to the repository.
+ * <p>
+ * In chunked mode the entities are saved in chunks of {@link #getChunkSize()} entities.
+ * After each chunk {@link AbstractCrudService#flushAndClear()} is invoked, so the persistence context never holds more
+ * than one chunk. As a consequence, entities returned from previous chunks are no longer managed.
+ * <p>
+ * If {@link #isCommitPerChunk()} is set, every chunk is written and committed in its own new transaction.
+ * Chunks committed before a failure stay committed. Bulk writes still run within the transaction of the bulk method
+ * itself, which is suspended, not released, while a chunk is written. Hence each bulk write holds two connections at
+ * once. Size the connection pool for two connections per concurrent bulk write, otherwise concurrent bulk writes may
+ * deadlock waiting for each other's connections.
+ */
+public final class BulkWriteOptions {
+
+    private static final BulkWriteListener NO_OP_LISTENER = (writtenCount, totalCount) -> {
+    };
+    private static final BulkWriteOptions UNCHUNKED = new BulkWriteOptions(Integer.MAX_VALUE, false, NO_OP_LISTENER);
+
+    private final int chunkSize;
+    private final boolean commitPerChunk;
+    private final BulkWriteListener listener;
+
+    private BulkWriteOptions(final int chunkSize, final boolean commitPerChunk, final BulkWriteListener listener) {
+        this.chunkSize = chunkSize;
+        this.commitPerChunk = commitPerChunk;
+        this.listener = listener;
+    }
+
+    /**
+     * @return options which save the whole collection with a single repository call.
+     */
+    public static BulkWriteOptions unchunked() {
+        return UNCHUNKED;
+    }
+
+    /**
+     * @param chunkSize number of entities saved per repository call. Must be positive.
+     *                  Ideally equal to the JDBC batch size configured for the persistence provider.
+     * @return options which save entities in chunks of given size.
+     */
+    public static BulkWriteOptions chunked(final int chunkSize) {
+        isTrue(chunkSize > 0, "chunkSize of bulk write must be positive.");
+        return new BulkWriteOptions(chunkSize, false, NO_OP_LISTENER);
+    }
+
+    /**
+     * Requires a transaction manager provided by {@link AbstractCrudService#getTransactionManager()}.
+     * Each bulk write then holds two connections at once, see {@link BulkWriteOptions}.
+     *
+     * @return copy of these options which commits each chunk in a new transaction.
+     */
+    public BulkWriteOptions committingPerChunk() {
+        return new BulkWriteOptions(chunkSize, true, listener);
+    }
+
+    /**
+     * @param listener to be notified after each written chunk. Must not be {@literal null}.
+     * @return copy of these options reporting progress to given listener.
+     */
+    public BulkWriteOptions withListener(final BulkWriteListener listener) {
+        notNull(listener, "listener of bulk write cannot be null.");
+        return new BulkWriteOptions(chunkSize, commitPerChunk, listener);
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * @return whether each chunk is committed in a new transaction, holding a second connection while the transaction
+     * of the bulk method stays open.
+     */
+    public boolean isCommitPerChunk() {
+        return commitPerChunk;
+    }
+
+    public BulkWriteListener getListener() {
+        return listener;
+    }
+}
@@ -0,0 +1,51 @@
+package com.naharoo.commons.mstoolkit.crudservices;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts cache evictions per stripe of ids, so that an entity loaded before its id was evicted isn't cached afterwards.
+ * <p>
+ * A loader takes a {@link #snapshot()} before reading entities and caches each of them only if its stripe hasn't been
+ * evicted since. Ids are hashed to a fixed number of stripes, so memory stays constant, at the price of occasionally
+ * skipping the caching of an entity whose id shares a stripe with an evicted one.
+ */
+final class CacheEvictionStamps {
+
+    private static final int STRIPES = 64;
+
+    private final AtomicLongArray evictions = new AtomicLongArray(STRIPES);
+
+    long[] snapshot() {
+        final long[] snapshot = new long[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            snapshot[i] = evictions.get(i);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Must be invoked before the entry is removed from the cache.
+     */
+    void evicted(final Object id) {
+        evictions.incrementAndGet(stripeOf(id));
+    }
+
+    /**
+     * Must be invoked before the entries are removed from the cache.
+     */
+    void evictedAll() {
+        for (int i = 0; i < STRIPES; i++) {
+            evictions.incrementAndGet(i);
+        }
+    }
+
+    boolean isEvictedSince(final long[] snapshot, final Object id) {
+        final int stripe = stripeOf(id);
+        return evictions.get(stripe) != snapshot[stripe];
+    }
+
+    private static int stripeOf(final Object id) {
+        final int hash = id.hashCode();
+        return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    }
+}
@@ -1,13 +1,20 @@
 package com.naharoo.commons.mstoolkit.crudservices;
 
 import com.naharoo.commons.mstoolkit.domainmodel.Identifiable;
+import com.naharoo.commons.mstoolkit.exceptions.PreconditionViolationException;
 import com.naharoo.commons.mstoolkit.exceptions.ResourceNotFoundException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Interface for generic CRUD operations on a service for a specific type.
@@ -47,8 +54,9 @@ public interface CrudService<T extends Identifiable<I>, I extends Serializable>
      *
      * @param entity to be saved. Must not be {@literal null}. It must have an id set.
      * @return the saved entity; will never be {@literal null}.
-     * @throws IllegalArgumentException in case the given {@literal entity} is {@literal null}.
-     * @throws IllegalArgumentException in case the given {@literal entity} doesn't have <code>id</code> set.
+     * @throws IllegalArgumentException       in case the given {@literal entity} is {@literal null}.
+     * @throws IllegalArgumentException       in case the given {@literal entity} doesn't have <code>id</code> set.
+     * @throws PreconditionViolationException if the entity has been modified concurrently, as detected by the repository.
      */
     @NonNull
     T update(@NonNull T entity);
@@ -59,12 +67,55 @@ public interface CrudService<T extends Identifiable<I>, I extends Serializable>
      * @param entities must not be {@literal null} nor must it contain {@literal null}. They must have ids set.
      * @return the saved entities; will never be {@literal null}. The returned {@literal List} will have the same size
      * as the {@literal List} passed as an argument.
-     * @throws IllegalArgumentException in case the given {@link List entities} or one of its entities is {@literal null}.
-     * @throws IllegalArgumentException in case the given {@link List entities} or one of its entities doesn't have an <code>id</code> set.
+     * @throws IllegalArgumentException       in case the given {@link List entities} or one of its entities is {@literal null}.
+     * @throws IllegalArgumentException       in case the given {@link List entities} or one of its entities doesn't have an <code>id</code> set.
+     * @throws PreconditionViolationException if one of the entities has been modified concurrently, as detected by the repository.
      */
     @NonNull
     List<T> updateAll(@NonNull Collection<? extends T> entities);
 
+    /**
+     * Saves all given entities within a single operation. Entities without an id set are created, the rest are updated.
+     *
+     * @param entities must not be {@literal null} nor must it contain {@literal null}.
+     * @return the saved entities; will never be {@literal null}. The returned {@literal List} will have the same size
+     * and order as the {@literal Collection} passed as an argument.
+     * @throws IllegalArgumentException in case the given {@link Collection entities} or one of its entities is {@literal null}.
+     */
+    @NonNull
+    List<T> upsertAll(@NonNull Collection<? extends T> entities);
+
+    /**
+     * Loads the entity with the given id, applies the given modification to it and saves it. If the entity has been
+     * modified concurrently in the meantime, the whole sequence is retried on a freshly loaded entity.
+     * <p>
+     * The modification may be applied several times, hence it must not have side effects other than changing the entity.
+     * <p>
+     * If invoked within an active transaction, the modification joins it, so it is rolled back together with the
+     * transaction. In that case it is attempted only once and a concurrent modification is reported right away.
+     * Otherwise every attempt is committed in its own transaction.
+     *
+     * @param id           must not be {@literal null}.
+     * @param modification to be applied to the entity. Must not be {@literal null}.
+     * @return the saved entity.
+     * @throws IllegalArgumentException       in case the given {@literal id} or {@literal modification} is {@literal null}.
+     * @throws ResourceNotFoundException      if no entity is found by {@literal id}.
+     * @throws PreconditionViolationException if the entity kept being modified concurrently, until retries were exhausted.
+     */
+    @NonNull
+    T modify(@NonNull I id, @NonNull Consumer<? super T> modification);
+
+    /**
+     * Sets given properties of the entity with given id, leaving the rest of them intact.
+     *
+     * @param id      must not be {@literal null}.
+     * @param changes new values keyed by property names. Must not be {@literal null} nor empty.
+     * @throws IllegalArgumentException  in case the given {@literal id} or {@link Map changes} is {@literal null}.
+     * @throws IllegalArgumentException  in case the given {@link Map changes} is empty or changes the <code>id</code>.
+     * @throws ResourceNotFoundException if no entity is found by {@literal id}.
+     */
+    void patch(@NonNull I id, @NonNull Map<String, ?> changes);
+
     /**
      * Retrieves an entity by its id.
      *
@@ -94,6 +145,48 @@ public interface CrudService<T extends Identifiable<I>, I extends Serializable>
     @NonNull
     List<T> getAll();
 
+    /**
+     * Performs the given action for each instance of the type {@code T} without loading all of them at once.
+     * <p>
+     * Entities are read in batches of bounded size and every underlying resource is released before this method returns.
+     * The action must not keep references to the entities if the memory footprint has to stay bounded.
+     * Requires the underlying repository to support paging.
+     *
+     * @param action must not be {@literal null}.
+     * @throws IllegalArgumentException in case the given {@literal action} is {@literal null}.
+     * @throws IllegalStateException    in case the underlying repository doesn't support paging.
+     */
+    void forEachEntity(@NonNull Consumer<? super T> action);
+
+    /**
+     * Returns a {@link Page} of entities meeting the paging restriction provided in the {@link Pageable} object.
+     * <p>
+     * Requires the underlying repository to support paging.
+     *
+     * @param pageable must not be {@literal null}.
+     * @return a page of entities; will never be {@literal null}.
+     * @throws IllegalArgumentException in case the given {@literal pageable} is {@literal null}.
+     * @throws IllegalStateException    in case the underlying repository doesn't support paging.
+     */
+    @NonNull
+    Page<T> getPage(@NonNull Pageable pageable);
+
+    /**
+     * Returns at most {@literal size} entities ordered by id, having ids greater than the given {@literal lastId}.
+     * <p>
+     * Unlike offset pages, the cost of retrieving a page doesn't depend on its depth. To iterate over all entities,
+     * pass the id of the last entity of the previous page, until an incomplete page is returned.
+     * Requires the underlying repository to support keyset paging.
+     *
+     * @param lastId id of the last entity of the previous page or {@literal null} to get the first page.
+     * @param size   maximum number of entities to return. Must be positive.
+     * @return the page of entities; will never be {@literal null}.
+     * @throws IllegalArgumentException in case the given {@literal size} is not positive.
+     * @throws IllegalStateException    in case the underlying repository doesn't support keyset paging.
+     */
+    @NonNull
+    List<T> getPageAfter(@Nullable I lastId, int size);
+
     /**
      * Returns all instances of the type {@code T} with the given IDs.
      * <p>
@@ -108,6 +201,60 @@ public interface CrudService<T extends Identifiable<I>, I extends Serializable>
     @NonNull
     List<T> getByIds(@NonNull Collection<? extends I> ids);
 
+    /**
+     * Returns all instances of the type {@code T} with the given IDs, mapped by their ids.
+     * <p>
+     * If some or all ids are not found, the returned {@link Map} has no entries for these IDs.
+     *
+     * @param ids must not be {@literal null} nor contain any {@literal null} values.
+     * @return guaranteed to be not {@literal null}. The size can be equal or less than the number of given {@literal ids}.
+     * @throws IllegalArgumentException in case the given {@link Collection ids} or one of its items is {@literal null}.
+     */
+    @NonNull
+    Map<I, T> getMapByIds(@NonNull Collection<? extends I> ids);
+
+    /**
+     * Returns all instances of the type {@code T} with the given IDs, in the iteration order of given IDs.
+     * <p>
+     * If some or all ids are not found, no entities are returned for these IDs.
+     * An entity is returned as many times as its id occurs in the given IDs.
+     *
+     * @param ids must not be {@literal null} nor contain any {@literal null} values.
+     * @return guaranteed to be not {@literal null}. The size can be equal or less than the number of given {@literal ids}.
+     * @throws IllegalArgumentException in case the given {@link Collection ids} or one of its items is {@literal null}.
+     */
+    @NonNull
+    List<T> getByIdsInOrder(@NonNull Collection<? extends I> ids);
+
+    /**
+     * Returns whether an entity with the given id exists.
+     *
+     * @param id must not be {@literal null}.
+     * @return {@literal true} if an entity with the given id exists, {@literal false} otherwise.
+     * @throws IllegalArgumentException if {@literal id} is {@literal null}.
+     */
+    boolean exists(@NonNull I id);
+
+    /**
+     * Returns which of the given IDs belong to existing instances of the type {@code T}.
+     * <p>
+     * Entities are not loaded if the underlying repository can select ids alone. Otherwise the entities are loaded,
+     * in bounded chunks, to check their existence.
+     *
+     * @param ids must not be {@literal null} nor contain any {@literal null} values.
+     * @return ids of existing entities; guaranteed to be not {@literal null}.
+     * @throws IllegalArgumentException in case the given {@link Collection ids} or one of its items is {@literal null}.
+     */
+    @NonNull
+    Set<I> existsAll(@NonNull Collection<? extends I> ids);
+
+    /**
+     * Returns the number of entities managed by the service.
+     *
+     * @return the number of entities.
+     */
+    long count();
+
     /**
      * Deletes the entity with the given id.
      *
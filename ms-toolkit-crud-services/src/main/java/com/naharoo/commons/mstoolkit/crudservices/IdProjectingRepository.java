@@ -0,0 +1,29 @@
+package com.naharoo.commons.mstoolkit.crudservices;
+
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.Repository;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository fragment enabling set-based existence checks in {@link AbstractCrudService#existsAll(Collection)}.
+ * <p>
+ * Spring Data doesn't derive scalar projections, so repositories must declare the query themselves,
+ * e.g. with a {@code @Query("select e.id from Entity e where e.id in :ids")}.
+ *
+ * @param <T> Managed Entity's type
+ * @param <I> Managed Entity's id's type
+ */
+@NoRepositoryBean
+public interface IdProjectingRepository<T, I extends Serializable> extends Repository<T, I> {
+
+    /**
+     * Selects ids of existing entities among the given ones, without loading the entities.
+     *
+     * @param ids must not be {@literal null} nor empty.
+     * @return ids of existing entities.
+     */
+    List<I> findIdsByIdIn(Collection<I> ids);
+}
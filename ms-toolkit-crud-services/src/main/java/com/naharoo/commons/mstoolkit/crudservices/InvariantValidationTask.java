@@ -0,0 +1,68 @@
+package com.naharoo.commons.mstoolkit.crudservices;
+
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+/**
+ * Fork-join task applying an invariant check to each element of a list. Instead of stopping at the first failure,
+ * every element is checked and the failure of each is stored at its index.
+ *
+ * @param <T> type of validated elements
+ */
+final class InvariantValidationTask<T> extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<? extends T> elements;
+    private final Consumer<? super T> check;
+    private final RuntimeException[] violations;
+    private final int leafSize;
+    private final int from;
+    private final int to;
+
+    InvariantValidationTask(
+            final List<? extends T> elements,
+            final Consumer<? super T> check,
+            final RuntimeException[] violations,
+            final int leafSize
+    ) {
+        this(elements, check, violations, leafSize, 0, elements.size());
+    }
+
+    private InvariantValidationTask(
+            final List<? extends T> elements,
+            final Consumer<? super T> check,
+            final RuntimeException[] violations,
+            final int leafSize,
+            final int from,
+            final int to
+    ) {
+        this.elements = elements;
+        this.check = check;
+        this.violations = violations;
+        this.leafSize = leafSize;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= leafSize) {
+            for (int i = from; i < to; i++) {
+                try {
+                    check.accept(elements.get(i));
+                } catch (final RuntimeException e) {
+                    violations[i] = e;
+                }
+            }
+            return;
+        }
+
+        final int middle = (from + to) >>> 1;
+        invokeAll(
+                new InvariantValidationTask<>(elements, check, violations, leafSize, from, middle),
+                new InvariantValidationTask<>(elements, check, violations, leafSize, middle, to)
+        );
+    }
+}
@@ -0,0 +1,29 @@
+package com.naharoo.commons.mstoolkit.crudservices;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.Repository;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Repository fragment enabling keyset (seek) pagination by id in {@link AbstractCrudService}.
+ * <p>
+ * Both methods are derived queries, so Spring Data implements them for repositories extending this interface.
+ * Only the first page of the given {@link Pageable} is ever requested, thus no offset is applied by the data store.
+ * <p>
+ * The derived queries filter and order by a property named {@code id}, which {@link AbstractCrudService} also uses
+ * for ordering batched reads and protecting ids from patches. Hence the id property of managed entities must be
+ * named {@code id}.
+ *
+ * @param <T> Managed Entity's type
+ * @param <I> Managed Entity's id's type
+ */
+@NoRepositoryBean
+public interface KeysetPagingRepository<T, I extends Serializable> extends Repository<T, I> {
+
+    List<T> findAllByOrderByIdAsc(Pageable pageable);
+
+    List<T> findAllByIdGreaterThanOrderByIdAsc(I id, Pageable pageable);
+}
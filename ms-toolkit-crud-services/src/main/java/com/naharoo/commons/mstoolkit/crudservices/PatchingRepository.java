@@ -0,0 +1,30 @@
+package com.naharoo.commons.mstoolkit.crudservices;
+
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.Repository;
+
+import java.io.Serializable;
+import java.util.Map;
+
+/**
+ * Repository fragment enabling targeted updates in {@link AbstractCrudService#patch(Serializable, Map)}.
+ * <p>
+ * No Spring Data store derives such a method, so repositories must provide a custom fragment implementation,
+ * e.g. with JPA's {@code CriteriaUpdate} setting each of the given properties on the row matching the id.
+ * Targeted updates bypass entity lifecycle callbacks and version checks of the data store.
+ *
+ * @param <T> Managed Entity's type
+ * @param <I> Managed Entity's id's type
+ */
+@NoRepositoryBean
+public interface PatchingRepository<T, I extends Serializable> extends Repository<T, I> {
+
+    /**
+     * Sets given properties of the entity with given id in a single statement, without loading it.
+     *
+     * @param id      must not be {@literal null}.
+     * @param changes new values keyed by property names. Must not be {@literal null} nor empty.
+     * @return the number of updated entities.
+     */
+    int patchById(I id, Map<String, ?> changes);
+}
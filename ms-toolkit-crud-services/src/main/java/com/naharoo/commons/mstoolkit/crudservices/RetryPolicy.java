@@ -0,0 +1,102 @@
+package com.naharoo.commons.mstoolkit.crudservices;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.springframework.util.Assert.isTrue;
+import static org.springframework.util.Assert.notNull;
+
+/**
+ * Defines how often and how fast {@link AbstractCrudService#modify} retries modifications which lost a race against
+ * concurrent ones.
+ * <p>
+ * The delay before each retry starts at {@link #getInitialDelay()} and is multiplied by {@link #getMultiplier()}
+ * after every failed attempt, up to {@link #getMaxDelay()}. Each delay is randomized by up to half of its length,
+ * so that competing writers don't retry in lockstep.
+ */
+public final class RetryPolicy {
+
+    private static final RetryPolicy NO_RETRY = new RetryPolicy(1, Duration.ZERO, 1, Duration.ZERO);
+
+    private final int maxAttempts;
+    private final Duration initialDelay;
+    private final double multiplier;
+    private final Duration maxDelay;
+
+    private RetryPolicy(
+            final int maxAttempts,
+            final Duration initialDelay,
+            final double multiplier,
+            final Duration maxDelay
+    ) {
+        this.maxAttempts = maxAttempts;
+        this.initialDelay = initialDelay;
+        this.multiplier = multiplier;
+        this.maxDelay = maxDelay;
+    }
+
+    /**
+     * @return policy which makes a single attempt only.
+     */
+    public static RetryPolicy noRetry() {
+        return NO_RETRY;
+    }
+
+    /**
+     * @param maxAttempts total number of attempts, including the first one. Must be positive.
+     * @return policy which retries immediately, up to given number of attempts.
+     */
+    public static RetryPolicy maxAttempts(final int maxAttempts) {
+        isTrue(maxAttempts > 0, "maxAttempts of retry policy must be positive.");
+        return new RetryPolicy(maxAttempts, Duration.ZERO, 1, Duration.ZERO);
+    }
+
+    /**
+     * @param initialDelay delay before the first retry. Must not be {@literal null} nor negative.
+     * @param multiplier   factor applied to the delay after each failed retry. Must not be less than 1.
+     * @param maxDelay     upper bound of delays. Must not be {@literal null} nor less than {@literal initialDelay}.
+     * @return copy of this policy waiting with exponential backoff between attempts.
+     */
+    public RetryPolicy withBackoff(final Duration initialDelay, final double multiplier, final Duration maxDelay) {
+        notNull(initialDelay, "initialDelay of retry policy cannot be null.");
+        isTrue(!initialDelay.isNegative(), "initialDelay of retry policy cannot be negative.");
+        isTrue(multiplier >= 1, "multiplier of retry policy cannot be less than 1.");
+        notNull(maxDelay, "maxDelay of retry policy cannot be null.");
+        isTrue(maxDelay.compareTo(initialDelay) >= 0, "maxDelay of retry policy cannot be less than initialDelay.");
+        return new RetryPolicy(maxAttempts, initialDelay, multiplier, maxDelay);
+    }
+
+    /**
+     * @param failedAttempts number of attempts failed so far. Must be positive.
+     * @return randomized delay before the next attempt.
+     */
+    public Duration getDelay(final int failedAttempts) {
+        isTrue(failedAttempts > 0, "failedAttempts of retry policy must be positive.");
+        if (initialDelay.isZero()) {
+            return Duration.ZERO;
+        }
+
+        final double delayNanos = Math.min(
+                initialDelay.toNanos() * Math.pow(multiplier, failedAttempts - 1),
+                maxDelay.toNanos()
+        );
+        final double jitter = ThreadLocalRandom.current().nextDouble(0.5, 1);
+        return Duration.ofNanos((long) (delayNanos * jitter));
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public Duration getInitialDelay() {
+        return initialDelay;
+    }
+
+    public double getMultiplier() {
+        return multiplier;
+    }
+
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+}
@@ -0,0 +1,50 @@
+package com.naharoo.commons.mstoolkit.crudservices;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Deduplicates concurrent loads of the same key: while a load is in flight, other callers asking for the same key
+ * wait for its outcome instead of starting their own load.
+ */
+final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    V execute(final K key, final Supplier<? extends V> loader) {
+        final CompletableFuture<V> own = new CompletableFuture<>();
+        final CompletableFuture<V> existing = inFlight.putIfAbsent(key, own);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            final V value = loader.get();
+            own.complete(value);
+            return value;
+        } catch (final RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    static <V> V await(final CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+}
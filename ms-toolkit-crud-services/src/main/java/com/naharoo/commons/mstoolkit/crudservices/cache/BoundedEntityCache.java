@@ -0,0 +1,184 @@
+package com.naharoo.commons.mstoolkit.crudservices.cache;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.springframework.util.Assert.isTrue;
+import static org.springframework.util.Assert.notNull;
+
+/**
+ * {@link EntityCache} bounded both by size and by entry age.
+ * <p>
+ * Lookups don't lock: entries are kept in a {@link ConcurrentHashMap} and a lookup only records the time of access
+ * on the entry it returns. When the size limit is exceeded, the thread adding the entry evicts expired entries and
+ * then the least recently accessed ones, a tenth of the limit at a time, while other threads keep going.
+ * Hence eviction approximates LRU and the size may briefly exceed the limit.
+ * Entries older than the configured time-to-live are never returned and are dropped on access.
+ */
+public class BoundedEntityCache implements EntityCache {
+
+    private final int maxSize;
+    private final int evictionBatchSize;
+    private final long timeToLiveNanos;
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private BoundedEntityCache(final int maxSize, final Duration timeToLive) {
+        isTrue(maxSize > 0, "maxSize of entity cache must be positive.");
+        notNull(timeToLive, "timeToLive of entity cache cannot be null.");
+        isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "timeToLive of entity cache must be positive.");
+
+        this.maxSize = maxSize;
+        this.evictionBatchSize = Math.max(1, maxSize / 10);
+        this.timeToLiveNanos = timeToLive.toNanos();
+    }
+
+    public static BoundedEntityCache newInstance(final int maxSize, final Duration timeToLive) {
+        return new BoundedEntityCache(maxSize, timeToLive);
+    }
+
+    @Override
+    public <T> T get(final Class<T> entityClass, final Serializable id) {
+        final Key key = new Key(entityClass, id);
+        final Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+
+        final long nowNanos = System.nanoTime();
+        if (entry.isExpired(nowNanos)) {
+            entries.remove(key, entry);
+            return null;
+        }
+        entry.lastAccessNanos = nowNanos;
+        return entityClass.cast(entry.entity);
+    }
+
+    @Override
+    public void put(final Class<?> entityClass, final Serializable id, final Object entity) {
+        final long nowNanos = System.nanoTime();
+        entries.put(new Key(entityClass, id), new Entry(entity, nowNanos, nowNanos + timeToLiveNanos));
+        if (entries.size() > maxSize) {
+            evict();
+        }
+    }
+
+    @Override
+    public void evict(final Class<?> entityClass, final Serializable id) {
+        entries.remove(new Key(entityClass, id));
+    }
+
+    @Override
+    public void evictAll(final Class<?> entityClass) {
+        entries.keySet().removeIf(key -> key.entityClass == entityClass);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Drops expired entries, then the least recently accessed ones, until the size is a batch below the limit.
+     * Skipped if another thread is already evicting.
+     */
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+
+        try {
+            final long nowNanos = System.nanoTime();
+            entries.values().removeIf(entry -> entry.isExpired(nowNanos));
+
+            final int excess = entries.size() - (maxSize - evictionBatchSize);
+            if (excess <= 0) {
+                return;
+            }
+
+            final List<EvictionCandidate> candidates = new ArrayList<>(entries.size());
+            entries.forEach((key, entry) -> candidates.add(new EvictionCandidate(key, entry)));
+            candidates.sort(Comparator.comparingLong(candidate -> candidate.lastAccessNanos));
+            for (int i = 0; i < excess && i < candidates.size(); i++) {
+                final EvictionCandidate candidate = candidates.get(i);
+                entries.remove(candidate.key, candidate.entry);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static final class Key {
+
+        private final Class<?> entityClass;
+        private final Serializable id;
+
+        private Key(final Class<?> entityClass, final Serializable id) {
+            this.entityClass = entityClass;
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            final Key that = (Key) o;
+
+            if (entityClass != that.entityClass) {
+                return false;
+            }
+            return Objects.equals(id, that.id);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = entityClass.hashCode();
+            result = 31 * result + (id != null ? id.hashCode() : 0);
+            return result;
+        }
+    }
+
+    /**
+     * Entry with its access time fixed, as entries keep being accessed while candidates are sorted.
+     */
+    private static final class EvictionCandidate {
+
+        private final Key key;
+        private final Entry entry;
+        private final long lastAccessNanos;
+
+        private EvictionCandidate(final Key key, final Entry entry) {
+            this.key = key;
+            this.entry = entry;
+            this.lastAccessNanos = entry.lastAccessNanos;
+        }
+    }
+
+    private static final class Entry {
+
+        private final Object entity;
+        private final long expiresAtNanos;
+        private volatile long lastAccessNanos;
+
+        private Entry(final Object entity, final long createdAtNanos, final long expiresAtNanos) {
+            this.entity = entity;
+            this.lastAccessNanos = createdAtNanos;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired(final long nowNanos) {
+            return nowNanos - expiresAtNanos >= 0;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.naharoo.commons.mstoolkit.crudservices.cache;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.io.Serializable;
+
+/**
+ * Read-through cache of entities managed by CRUD services.
+ * <p>
+ * Entries are keyed by the entity's class and id, so a single instance can be shared by several services.
+ * Cached instances are handed out to all callers, hence they must be treated as read-only.
+ */
+public interface EntityCache {
+
+    /**
+     * Returns the cached entity of given type by its id.
+     *
+     * @param entityClass type of the entity. Must not be {@literal null}.
+     * @param id          id of the entity. Must not be {@literal null}.
+     * @return the cached entity or {@literal null} if there is no live entry.
+     */
+    @Nullable
+    <T> T get(@NonNull Class<T> entityClass, @NonNull Serializable id);
+
+    /**
+     * Caches the given entity.
+     *
+     * @param entityClass type of the entity. Must not be {@literal null}.
+     * @param id          id of the entity. Must not be {@literal null}.
+     * @param entity      entity to be cached. Must not be {@literal null}.
+     */
+    void put(@NonNull Class<?> entityClass, @NonNull Serializable id, @NonNull Object entity);
+
+    /**
+     * Removes the entity of given type by its id, if present.
+     *
+     * @param entityClass type of the entity. Must not be {@literal null}.
+     * @param id          id of the entity. Must not be {@literal null}.
+     */
+    void evict(@NonNull Class<?> entityClass, @NonNull Serializable id);
+
+    /**
+     * Removes all entities of given type.
+     *
+     * @param entityClass type of the entities. Must not be {@literal null}.
+     */
+    void evictAll(@NonNull Class<?> entityClass);
+
+    /**
+     * @return cache which never holds anything. Used when caching is not enabled.
+     */
+    static EntityCache none() {
+        return NoOpEntityCache.INSTANCE;
+    }
+}
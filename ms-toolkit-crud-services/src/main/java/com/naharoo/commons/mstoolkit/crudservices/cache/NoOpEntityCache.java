@@ -0,0 +1,28 @@
+package com.naharoo.commons.mstoolkit.crudservices.cache;
+
+import java.io.Serializable;
+
+final class NoOpEntityCache implements EntityCache {
+
+    static final NoOpEntityCache INSTANCE = new NoOpEntityCache();
+
+    private NoOpEntityCache() {
+    }
+
+    @Override
+    public <T> T get(final Class<T> entityClass, final Serializable id) {
+        return null;
+    }
+
+    @Override
+    public void put(final Class<?> entityClass, final Serializable id, final Object entity) {
+    }
+
+    @Override
+    public void evict(final Class<?> entityClass, final Serializable id) {
+    }
+
+    @Override
+    public void evictAll(final Class<?> entityClass) {
+    }
+}
@@ -0,0 +1,50 @@
+package com.naharoo.commons.mstoolkit.crudservices.metrics;
+
+import org.springframework.lang.NonNull;
+
+/**
+ * Recorder of measurements taken by CRUD services.
+ * <p>
+ * Measurements are keyed by the entity's class and the name of the operation, e.g. {@code "create"} or
+ * {@code "getByIds"}, so a single instance can be shared by several services.
+ */
+public interface CrudMetrics {
+
+    /**
+     * @return whether measurements are recorded at all. Services skip taking measurements if not.
+     */
+    boolean isEnabled();
+
+    /**
+     * Records the duration of a completed operation.
+     *
+     * @param entityClass   type of the managed entity. Must not be {@literal null}.
+     * @param operation     name of the operation. Must not be {@literal null}.
+     * @param durationNanos duration of the operation in nanoseconds.
+     */
+    void recordOperation(@NonNull Class<?> entityClass, @NonNull String operation, long durationNanos);
+
+    /**
+     * Records the number of entities or ids a bulk operation has been invoked with.
+     *
+     * @param entityClass type of the managed entity. Must not be {@literal null}.
+     * @param operation   name of the operation. Must not be {@literal null}.
+     * @param batchSize   number of entities or ids.
+     */
+    void recordBatchSize(@NonNull Class<?> entityClass, @NonNull String operation, int batchSize);
+
+    /**
+     * Records the outcome of a lookup by id.
+     *
+     * @param entityClass type of the managed entity. Must not be {@literal null}.
+     * @param found       whether the entity has been found.
+     */
+    void recordFind(@NonNull Class<?> entityClass, boolean found);
+
+    /**
+     * @return metrics which never record anything. Used when metrics are not enabled.
+     */
+    static CrudMetrics none() {
+        return NoOpCrudMetrics.INSTANCE;
+    }
+}
@@ -0,0 +1,28 @@
+package com.naharoo.commons.mstoolkit.crudservices.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Provides {@link MicrometerCrudMetrics} to CRUD services when Micrometer is present.
+ * Can be disabled with {@code ms-toolkit.crud-services.metrics.enabled=false}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnProperty(prefix = "ms-toolkit.crud-services.metrics", name = "enabled", matchIfMissing = true)
+@AutoConfigureAfter(name = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration")
+public class CrudServicesMetricsAutoConfiguration {
+
+    @Bean
+    @ConditionalOnBean(MeterRegistry.class)
+    @ConditionalOnMissingBean(CrudMetrics.class)
+    public CrudMetrics crudMetrics(final MeterRegistry meterRegistry) {
+        return MicrometerCrudMetrics.newInstance(meterRegistry);
+    }
+}
@@ -0,0 +1,110 @@
+package com.naharoo.commons.mstoolkit.crudservices.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.util.Assert.notNull;
+
+/**
+ * {@link CrudMetrics} backed by Micrometer.
+ * <p>
+ * Publishes the following meters, tagged by {@code entity} (simple name of the entity's class) and {@code operation}:
+ * <ul>
+ * <li>{@value #OPERATION_TIMER} timer of operation durations;</li>
+ * <li>{@value #BATCH_SIZE_SUMMARY} distribution summary of bulk operation sizes, with a fixed set of buckets
+ * bounded by powers of ten up to 10000, so that each entity and operation pair publishes a handful of series;</li>
+ * <li>{@value #FIND_COUNTER} counter of lookups by id, additionally tagged by {@code result} {@code found} or
+ * {@code not-found}, regardless of whether the entity came from the entity cache.</li>
+ * </ul>
+ * Meters are registered on first use per entity and operation. Later recordings look them up with plain map reads,
+ * without locking or allocating.
+ */
+public class MicrometerCrudMetrics implements CrudMetrics {
+
+    public static final String OPERATION_TIMER = "ms-toolkit.crud.operation";
+    public static final String BATCH_SIZE_SUMMARY = "ms-toolkit.crud.batch.size";
+    public static final String FIND_COUNTER = "ms-toolkit.crud.find";
+
+    private static final String ENTITY_TAG = "entity";
+    private static final String OPERATION_TAG = "operation";
+    private static final String RESULT_TAG = "result";
+    private static final double[] BATCH_SIZE_BUCKETS = {1, 10, 100, 1_000, 10_000};
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, Map<String, Timer>> timers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Map<String, DistributionSummary>> batchSizeSummaries = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Counter> findFoundCounters = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Counter> findNotFoundCounters = new ConcurrentHashMap<>();
+
+    public MicrometerCrudMetrics(final MeterRegistry meterRegistry) {
+        notNull(meterRegistry, "meterRegistry cannot be null.");
+        this.meterRegistry = meterRegistry;
+    }
+
+    public static MicrometerCrudMetrics newInstance(final MeterRegistry meterRegistry) {
+        return new MicrometerCrudMetrics(meterRegistry);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void recordOperation(final Class<?> entityClass, final String operation, final long durationNanos) {
+        final Map<String, Timer> entityTimers = timers.get(entityClass);
+        Timer timer = entityTimers == null ? null : entityTimers.get(operation);
+        if (timer == null) {
+            timer = timers
+                    .computeIfAbsent(entityClass, key -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(operation, key -> Timer
+                            .builder(OPERATION_TIMER)
+                            .description("Duration of CRUD service operations")
+                            .tag(ENTITY_TAG, entityClass.getSimpleName())
+                            .tag(OPERATION_TAG, operation)
+                            .register(meterRegistry));
+        }
+        timer.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordBatchSize(final Class<?> entityClass, final String operation, final int batchSize) {
+        final Map<String, DistributionSummary> entitySummaries = batchSizeSummaries.get(entityClass);
+        DistributionSummary summary = entitySummaries == null ? null : entitySummaries.get(operation);
+        if (summary == null) {
+            summary = batchSizeSummaries
+                    .computeIfAbsent(entityClass, key -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(operation, key -> DistributionSummary
+                            .builder(BATCH_SIZE_SUMMARY)
+                            .description("Number of entities or ids of bulk CRUD service operations")
+                            .baseUnit("entities")
+                            .tag(ENTITY_TAG, entityClass.getSimpleName())
+                            .tag(OPERATION_TAG, operation)
+                            .serviceLevelObjectives(BATCH_SIZE_BUCKETS)
+                            .register(meterRegistry));
+        }
+        summary.record(batchSize);
+    }
+
+    @Override
+    public void recordFind(final Class<?> entityClass, final boolean found) {
+        final Map<Class<?>, Counter> counters = found ? findFoundCounters : findNotFoundCounters;
+        Counter counter = counters.get(entityClass);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(entityClass, key -> Counter
+                    .builder(FIND_COUNTER)
+                    .description("Lookups by id of CRUD services")
+                    .tag(ENTITY_TAG, entityClass.getSimpleName())
+                    .tag(OPERATION_TAG, "find")
+                    .tag(RESULT_TAG, found ? "found" : "not-found")
+                    .register(meterRegistry));
+        }
+        counter.increment();
+    }
+}
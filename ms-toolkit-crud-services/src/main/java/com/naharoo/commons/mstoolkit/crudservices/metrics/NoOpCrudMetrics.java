@@ -0,0 +1,26 @@
+package com.naharoo.commons.mstoolkit.crudservices.metrics;
+
+final class NoOpCrudMetrics implements CrudMetrics {
+
+    static final NoOpCrudMetrics INSTANCE = new NoOpCrudMetrics();
+
+    private NoOpCrudMetrics() {
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public void recordOperation(final Class<?> entityClass, final String operation, final long durationNanos) {
+    }
+
+    @Override
+    public void recordBatchSize(final Class<?> entityClass, final String operation, final int batchSize) {
+    }
+
+    @Override
+    public void recordFind(final Class<?> entityClass, final boolean found) {
+    }
+}
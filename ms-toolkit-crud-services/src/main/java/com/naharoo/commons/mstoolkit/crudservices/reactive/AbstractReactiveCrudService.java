@@ -0,0 +1,297 @@
+package com.naharoo.commons.mstoolkit.crudservices.reactive;
+
+import com.naharoo.commons.mstoolkit.domainmodel.Identifiable;
+import com.naharoo.commons.mstoolkit.exceptions.ResourceNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.springframework.util.Assert.*;
+
+public abstract class AbstractReactiveCrudService<T extends Identifiable<I>, I extends Serializable>
+        implements ReactiveCrudService<T, I> {
+
+    protected final Class<T> entityClass = resolveGenericEntityType();
+
+    private final String entityName = entityClass.getSimpleName();
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final ReactiveCrudRepository<T, I> crudRepository;
+
+    protected AbstractReactiveCrudService(final ReactiveCrudRepository<T, I> crudRepository) {
+        this.crudRepository = crudRepository;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Class<T> resolveGenericEntityType() {
+        final Class<?>[] classes = GenericTypeResolver.resolveTypeArguments(
+                getClass(),
+                AbstractReactiveCrudService.class
+        );
+        if (classes == null) {
+            throw new IllegalStateException(String.format(
+                    "%s should provide generic type parameters to %s",
+                    getClass().getSimpleName(),
+                    AbstractReactiveCrudService.class.getSimpleName()
+            ));
+        }
+        return (Class<T>) classes[0];
+    }
+
+    @Override
+    @Transactional
+    public Mono<T> create(final T entity) {
+        notNull(entity, "entity for creation cannot be null.");
+
+        return Mono
+                .defer(() -> {
+                    if (logger.isTraceEnabled()) {
+                        logger.trace("Creating a new {}...", entityName);
+                    }
+                    assureCreationInvariants(entity);
+                    return crudRepository.save(entity);
+                })
+                .doOnSuccess(created -> {
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("Successfully created a new {}.", entityName);
+                    }
+                });
+    }
+
+    protected void assureCreationInvariants(final T entity) {
+        notNull(entity, "entity for creation cannot be null.");
+        final I id = entity.getId();
+        isNull(id, "id of creation entity must be null.");
+    }
+
+    @Override
+    @Transactional
+    public Flux<T> createAll(final Collection<? extends T> entities) {
+        notEmpty(entities, "entities for creation cannot be null or empty.");
+        entities.forEach(entity -> notNull(entity, "entity for creation cannot be null."));
+
+        return Flux
+                .defer(() -> {
+                    if (logger.isTraceEnabled()) {
+                        logger.trace("Creating {} new {}s...", entities.size(), entityName);
+                    }
+                    assureCreationInvariants(entities);
+                    return Flux.<T>from(crudRepository.saveAll(entities));
+                })
+                .doOnComplete(() -> {
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("Successfully created {} new {}s.", entities.size(), entityName);
+                    }
+                });
+    }
+
+    protected void assureCreationInvariants(final Collection<? extends T> entities) {
+        notEmpty(entities, "entities for creation cannot be null or empty.");
+        entities.forEach(this::assureCreationInvariants);
+    }
+
+    @Override
+    @Transactional
+    public Mono<T> update(final T entity) {
+        notNull(entity, "entity for update cannot be null.");
+
+        return Mono
+                .defer(() -> {
+                    if (logger.isTraceEnabled()) {
+                        logger.trace("Updating {} with id:'{}'...", entityName, entity.getId());
+                    }
+                    assureUpdateInvariants(entity);
+                    return crudRepository.save(entity);
+                })
+                .doOnSuccess(updated -> {
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("Successfully updated {} with id:'{}'.", entityName, entity.getId());
+                    }
+                });
+    }
+
+    protected void assureUpdateInvariants(final T entity) {
+        notNull(entity, "entity for update cannot be null.");
+        final I id = entity.getId();
+        notNull(id, "id of update entity cannot be null.");
+    }
+
+    @Override
+    @Transactional
+    public Flux<T> updateAll(final Collection<? extends T> entities) {
+        notEmpty(entities, "entities for update cannot be null or empty.");
+        entities.forEach(entity -> notNull(entity, "entity for update cannot be null."));
+
+        return Flux
+                .defer(() -> {
+                    if (logger.isTraceEnabled()) {
+                        logger.trace("Updating {} {}s...", entities.size(), entityName);
+                    }
+                    assureUpdateInvariants(entities);
+                    return Flux.<T>from(crudRepository.saveAll(entities));
+                })
+                .doOnComplete(() -> {
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("Successfully updated {} {}s.", entities.size(), entityName);
+                    }
+                });
+    }
+
+    protected void assureUpdateInvariants(final Collection<? extends T> entities) {
+        notEmpty(entities, "entities for update cannot be null or empty.");
+        entities.forEach(this::assureUpdateInvariants);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<T> find(final I id) {
+        notNull(id, "id for find by id cannot be null.");
+
+        return Mono
+                .defer(() -> {
+                    if (logger.isTraceEnabled()) {
+                        logger.trace("Finding {} by id:'{}'...", entityName, id);
+                    }
+                    return crudRepository.findById(id);
+                })
+                .doOnSuccess(entity -> {
+                    if (entity != null) {
+                        if (logger.isDebugEnabled()) {
+                            logger.debug("Successfully found {} by id:'{}'.", entityName, id);
+                        }
+                    } else if (logger.isDebugEnabled()) {
+                        logger.debug("No {} has been found by id:'{}'.", entityName, id);
+                    }
+                });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Mono<T> get(final I id) {
+        notNull(id, "id for get by id cannot be null.");
+
+        return find(id)
+                .switchIfEmpty(Mono.defer(() -> {
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("No {} has been found by id:'{}'. Nothing to get.", entityName, id);
+                    }
+                    return Mono.error(ResourceNotFoundException.createInstance(entityClass, "id", id));
+                }))
+                .doOnSuccess(entity -> {
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("Successfully got {} by id:'{}'.", entityName, id);
+                    }
+                });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Flux<T> getAll() {
+        return Flux
+                .defer(() -> {
+                    if (logger.isTraceEnabled()) {
+                        logger.trace("Getting all {}s...", entityName);
+                    }
+                    return crudRepository.findAll();
+                })
+                .doOnComplete(() -> {
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("Successfully got all {}s.", entityName);
+                    }
+                });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Flux<T> getByIds(final Collection<? extends I> ids) {
+        notEmpty(ids, "ids for get by ids cannot be null or empty.");
+        ids.forEach(id -> notNull(id, "id for get by id cannot be null."));
+
+        return Flux
+                .defer(() -> {
+                    if (logger.isTraceEnabled()) {
+                        logger.trace("Getting {} {}s by ids...", ids.size(), entityName);
+                    }
+                    return crudRepository.findAllById(Collections.unmodifiableCollection(ids));
+                })
+                .doOnComplete(() -> {
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("Successfully got {}s by {} requested ids.", entityName, ids.size());
+                    }
+                });
+    }
+
+    @Override
+    @Transactional
+    public Mono<Void> delete(final I id) {
+        notNull(id, "id for delete by id cannot be null.");
+
+        return Mono
+                .defer(() -> {
+                    if (logger.isTraceEnabled()) {
+                        logger.trace("Deleting {} by id:'{}'...", entityName, id);
+                    }
+                    return doDelete(id);
+                })
+                .doOnSuccess(nothing -> {
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("Successfully deleted {} by id:'{}'.", entityName, id);
+                    }
+                });
+    }
+
+    protected Mono<Void> doDelete(final I id) {
+        notNull(id, "id for delete by id cannot be null.");
+        return crudRepository.deleteById(id);
+    }
+
+    @Override
+    @Transactional
+    public Mono<Void> deleteAll() {
+        return Mono
+                .defer(() -> {
+                    if (logger.isTraceEnabled()) {
+                        logger.trace("Deleting all {}s...", entityName);
+                    }
+                    return crudRepository.deleteAll();
+                })
+                .doOnSuccess(nothing -> {
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("Successfully deleted all {}s.", entityName);
+                    }
+                });
+    }
+
+    @Override
+    @Transactional
+    public Mono<Void> deleteByIds(final Collection<? extends I> ids) {
+        notEmpty(ids, "ids for delete by ids cannot be null or empty.");
+        ids.forEach(id -> notNull(id, "id for delete by id cannot be null."));
+
+        return Mono
+                .defer(() -> {
+                    if (logger.isTraceEnabled()) {
+                        logger.trace("Deleting {} {}s by ids...", ids.size(), entityName);
+                    }
+                    return doDelete(ids);
+                })
+                .doOnSuccess(nothing -> {
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("Successfully deleted {} {}s by ids.", ids.size(), entityName);
+                    }
+                });
+    }
+
+    protected Mono<Void> doDelete(final Collection<? extends I> ids) {
+        notEmpty(ids, "ids for delete by ids cannot be null or empty.");
+        return Flux.fromIterable(ids).concatMap(this::doDelete).then();
+    }
+}
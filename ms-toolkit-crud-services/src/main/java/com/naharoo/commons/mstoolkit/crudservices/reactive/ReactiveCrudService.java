@@ -0,0 +1,135 @@
+package com.naharoo.commons.mstoolkit.crudservices.reactive;
+
+import com.naharoo.commons.mstoolkit.domainmodel.Identifiable;
+import com.naharoo.commons.mstoolkit.exceptions.ResourceNotFoundException;
+import org.springframework.lang.NonNull;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.Serializable;
+import java.util.Collection;
+
+/**
+ * Interface for generic CRUD operations on a reactive service for a specific type.
+ * <p>
+ * Illegal arguments are rejected immediately by throwing {@link IllegalArgumentException}, while violated invariants
+ * and data store failures are signalled as errors of the returned publishers.
+ *
+ * @param <T> Managed Entity's type
+ * @param <I> Managed Entity's id's type
+ */
+public interface ReactiveCrudService<T extends Identifiable<I>, I extends Serializable> {
+
+    /**
+     * Saves a given entity. Use the emitted instance for further operations as the save operation might have changed the
+     * entity instance completely.
+     *
+     * @param entity to be saved. Must not be {@literal null}. It must not have an id set.
+     * @return {@link Mono} emitting the saved entity.
+     * @throws IllegalArgumentException in case the given {@literal entity} is {@literal null}.
+     */
+    @NonNull
+    Mono<T> create(@NonNull T entity);
+
+    /**
+     * Saves all given entities.
+     *
+     * @param entities must not be {@literal null} nor must it contain {@literal null}. They must not have ids set.
+     * @return {@link Flux} emitting the saved entities.
+     * @throws IllegalArgumentException in case the given {@link Collection entities} or one of its entities is {@literal null}.
+     */
+    @NonNull
+    Flux<T> createAll(@NonNull Collection<? extends T> entities);
+
+    /**
+     * Saves a given entity. Use the emitted instance for further operations as the save operation might have changed the
+     * entity instance completely.
+     *
+     * @param entity to be saved. Must not be {@literal null}. It must have an id set.
+     * @return {@link Mono} emitting the saved entity.
+     * @throws IllegalArgumentException in case the given {@literal entity} is {@literal null}.
+     */
+    @NonNull
+    Mono<T> update(@NonNull T entity);
+
+    /**
+     * Saves all given entities.
+     *
+     * @param entities must not be {@literal null} nor must it contain {@literal null}. They must have ids set.
+     * @return {@link Flux} emitting the saved entities.
+     * @throws IllegalArgumentException in case the given {@link Collection entities} or one of its entities is {@literal null}.
+     */
+    @NonNull
+    Flux<T> updateAll(@NonNull Collection<? extends T> entities);
+
+    /**
+     * Retrieves an entity by its id.
+     *
+     * @param id must not be {@literal null}.
+     * @return {@link Mono} emitting the entity with the given id or {@link Mono#empty()} if none found.
+     * @throws IllegalArgumentException if {@literal id} is {@literal null}.
+     */
+    @NonNull
+    Mono<T> find(@NonNull I id);
+
+    /**
+     * Retrieves an entity by its id.
+     *
+     * @param id must not be {@literal null}.
+     * @return {@link Mono} emitting the entity with the given id or signalling {@link ResourceNotFoundException}
+     * if no entity is found by {@literal id}.
+     * @throws IllegalArgumentException if {@literal id} is {@literal null}.
+     */
+    @NonNull
+    Mono<T> get(@NonNull I id);
+
+    /**
+     * Returns all instances of the type {@code T}.
+     *
+     * @return {@link Flux} emitting all entities.
+     */
+    @NonNull
+    Flux<T> getAll();
+
+    /**
+     * Returns all instances of the type {@code T} with the given IDs.
+     * <p>
+     * If some or all ids are not found, no entities are emitted for these IDs.
+     * <p>
+     * Note that the order of emitted elements is not guaranteed.
+     *
+     * @param ids must not be {@literal null} nor contain any {@literal null} values.
+     * @return {@link Flux} emitting found entities.
+     * @throws IllegalArgumentException in case the given {@link Collection ids} or one of its items is {@literal null}.
+     */
+    @NonNull
+    Flux<T> getByIds(@NonNull Collection<? extends I> ids);
+
+    /**
+     * Deletes the entity with the given id.
+     *
+     * @param id must not be {@literal null}.
+     * @return {@link Mono} signalling when the operation is completed.
+     * @throws IllegalArgumentException in case the given {@literal id} is {@literal null}
+     */
+    @NonNull
+    Mono<Void> delete(@NonNull I id);
+
+    /**
+     * Deletes all entities managed by the service.
+     *
+     * @return {@link Mono} signalling when the operation is completed.
+     */
+    @NonNull
+    Mono<Void> deleteAll();
+
+    /**
+     * Deletes all entities with ids inside provided {@link Collection ids}.
+     *
+     * @param ids must not be {@literal null} nor contain any {@literal null} values.
+     * @return {@link Mono} signalling when the operation is completed.
+     * @throws IllegalArgumentException in case the given {@link Collection ids} or one of its items is {@literal null}.
+     */
+    @NonNull
+    Mono<Void> deleteByIds(@NonNull Collection<? extends I> ids);
+}
@@ -4,8 +4,31 @@ import java.util.List;
 
 public class CustomMsException extends MsException {
 
+    private static final long serialVersionUID = -2317843663668147480L;
+
     public CustomMsException(final List<IssueType> types, final String message, final Throwable cause) {
-        super(types, message, cause);
+        this(types, message, cause, true, !StacklessExceptions.isStackless(CustomMsException.class));
+    }
+
+    protected CustomMsException(
+            final List<IssueType> types,
+            final String message,
+            final Throwable cause,
+            final boolean enableSuppression,
+            final boolean writableStackTrace
+    ) {
+        this(types, message, cause, enableSuppression, writableStackTrace, true);
+    }
+
+    protected CustomMsException(
+            final List<IssueType> types,
+            final String message,
+            final Throwable cause,
+            final boolean enableSuppression,
+            final boolean writableStackTrace,
+            final boolean recordStatistics
+    ) {
+        super(types, message, cause, enableSuppression, writableStackTrace, recordStatistics);
     }
 
     public static CustomMsException createInstance(
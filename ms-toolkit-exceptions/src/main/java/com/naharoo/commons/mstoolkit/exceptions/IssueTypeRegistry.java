@@ -0,0 +1,144 @@
+package com.naharoo.commons.mstoolkit.exceptions;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Global registry of known {@link IssueType}s, resolving them by their String representation.
+ * <p>
+ * Enforces the global uniqueness of String representations required by {@link IssueType}: registering a type whose
+ * String representation is already taken by a different type is rejected. {@link CommonIssueType}s are always
+ * registered. Services register their own types at startup, so that issue types received from other services can be
+ * resolved to the same canonical instances. Unregistered types received from other services are represented by
+ * {@link RemoteIssueType}s.
+ */
+public final class IssueTypeRegistry {
+
+    private static final int MAX_REMOTE_ISSUE_TYPES = 1024;
+    private static final Map<String, IssueType> ISSUE_TYPES = new ConcurrentHashMap<>();
+    private static final Map<String, RemoteIssueType> REMOTE_ISSUE_TYPES = new ConcurrentHashMap<>();
+
+    static {
+        registerAll(CommonIssueType.values());
+    }
+
+    private IssueTypeRegistry() {
+    }
+
+    /**
+     * Registers the given issue type. Registering the same type again has no effect.
+     *
+     * @param issueType must not be {@literal null} and must provide a non-blank String representation.
+     * @throws IllegalArgumentException if another issue type with the same String representation is registered.
+     */
+    public static void register(final IssueType issueType) {
+        if (Objects.isNull(issueType)) {
+            throw new IllegalArgumentException("Registered issue type cannot be null");
+        }
+        final String value = issueType.asString();
+        if (Objects.isNull(value) || value.trim().isEmpty()) {
+            throw new IllegalArgumentException(String.format(
+                    "%s issue type must provide non-blank String representation",
+                    issueType.getClass().getName()
+            ));
+        }
+
+        final IssueType existing = ISSUE_TYPES.putIfAbsent(value, issueType);
+        if (existing != null && !existing.equals(issueType)) {
+            throw new IllegalArgumentException(String.format(
+                    "'%s' issue type of %s is already registered by %s",
+                    value,
+                    issueType.getClass().getName(),
+                    existing.getClass().getName()
+            ));
+        }
+    }
+
+    /**
+     * Registers all given issue types.
+     *
+     * @param issueTypes must not be {@literal null} nor contain {@literal null}.
+     * @throws IllegalArgumentException if any of the types conflicts with a registered one.
+     */
+    public static void registerAll(final IssueType... issueTypes) {
+        if (Objects.isNull(issueTypes)) {
+            throw new IllegalArgumentException("Registered issue types cannot be null");
+        }
+        for (final IssueType issueType : issueTypes) {
+            register(issueType);
+        }
+    }
+
+    /**
+     * Registers all constants of the given enum.
+     *
+     * @param issueTypeEnum must not be {@literal null}.
+     * @throws IllegalArgumentException if any of the constants conflicts with a registered type.
+     */
+    public static <E extends Enum<E> & IssueType> void registerAll(final Class<E> issueTypeEnum) {
+        if (Objects.isNull(issueTypeEnum)) {
+            throw new IllegalArgumentException("Registered issue type enum cannot be null");
+        }
+        registerAll(issueTypeEnum.getEnumConstants());
+    }
+
+    /**
+     * @param value String representation of an issue type.
+     * @return the registered issue type or {@literal Optional#empty()} if none is registered by given value.
+     */
+    public static Optional<IssueType> find(final String value) {
+        return Objects.isNull(value) ? Optional.empty() : Optional.ofNullable(ISSUE_TYPES.get(value));
+    }
+
+    /**
+     * Resolves an issue type received from another service. Unregistered types are represented by
+     * {@link RemoteIssueType}s, which are interned, up to {@value #MAX_REMOTE_ISSUE_TYPES} distinct values, so that
+     * errors of the same type share a single instance.
+     *
+     * @param value      String representation of the issue type. Must not be {@literal null}.
+     * @param statusCode status code of the issue type reported by the other service.
+     * @return the registered issue type by given value or a {@link RemoteIssueType}.
+     */
+    public static IssueType resolve(final String value, final int statusCode) {
+        if (Objects.isNull(value)) {
+            throw new IllegalArgumentException("Resolved issue type value cannot be null");
+        }
+        final IssueType registered = ISSUE_TYPES.get(value);
+        if (registered != null) {
+            return registered;
+        }
+
+        final RemoteIssueType interned = REMOTE_ISSUE_TYPES.get(value);
+        if (interned != null && interned.statusCode() == statusCode) {
+            return interned;
+        }
+
+        final RemoteIssueType issueType = new RemoteIssueType(value, statusCode);
+        if (interned == null && REMOTE_ISSUE_TYPES.size() < MAX_REMOTE_ISSUE_TYPES) {
+            final RemoteIssueType existing = REMOTE_ISSUE_TYPES.putIfAbsent(value, issueType);
+            if (existing != null && existing.statusCode() == statusCode) {
+                return existing;
+            }
+        }
+        return issueType;
+    }
+
+    /**
+     * @param value String representation of an issue type.
+     * @return whether an issue type is registered by given value.
+     */
+    public static boolean isRegistered(final String value) {
+        return !Objects.isNull(value) && ISSUE_TYPES.containsKey(value);
+    }
+
+    /**
+     * @return read-only view of all registered issue types.
+     */
+    public static Collection<IssueType> getAll() {
+        return Collections.unmodifiableCollection(ISSUE_TYPES.values());
+    }
+}
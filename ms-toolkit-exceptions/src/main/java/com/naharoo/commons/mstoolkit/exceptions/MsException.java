@@ -1,8 +1,11 @@
 package com.naharoo.commons.mstoolkit.exceptions;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * Parent for all Exceptions handled by MS Toolkit exception handler.
@@ -10,8 +13,12 @@ import java.util.Objects;
  */
 public abstract class MsException extends RuntimeException {
 
+    private static final long serialVersionUID = 4870816432583925282L;
+
     private final IssueType reportingIssueType;
     private final List<IssueType> types;
+    private transient volatile Supplier<String> messageSupplier;
+    private String renderedMessage;
 
     /**
      * @param types   {@code List issueTypes} related to this exception.
@@ -20,15 +27,93 @@ public abstract class MsException extends RuntimeException {
      * @param cause   cause of the exception. Can be {@literal null}.
      */
     protected MsException(final List<IssueType> types, final String message, final Throwable cause) {
-        super(message, cause);
+        this(types, message, cause, true, !StacklessExceptions.isStackless(MsException.class));
+    }
+
+    /**
+     * @param types              {@code List issueTypes} related to this exception.
+     *                           First type from provided list will be considered as a {@literal reportingIssueType}
+     * @param message            message of the exception. Can be {@literal null}.
+     * @param cause              cause of the exception. Can be {@literal null}.
+     * @param enableSuppression  whether suppressed exceptions can be added.
+     * @param writableStackTrace whether the stack trace is captured. See {@link StacklessExceptions}.
+     */
+    protected MsException(
+            final List<IssueType> types,
+            final String message,
+            final Throwable cause,
+            final boolean enableSuppression,
+            final boolean writableStackTrace
+    ) {
+        this(types, message, cause, enableSuppression, writableStackTrace, true);
+    }
+
+    /**
+     * @param types              {@code List issueTypes} related to this exception.
+     *                           First type from provided list will be considered as a {@literal reportingIssueType}
+     * @param message            message of the exception. Can be {@literal null}.
+     * @param cause              cause of the exception. Can be {@literal null}.
+     * @param enableSuppression  whether suppressed exceptions can be added.
+     * @param writableStackTrace whether the stack trace is captured. See {@link StacklessExceptions}.
+     * @param recordStatistics   whether the exception is counted by {@link MsExceptionStatistics}. Disable it for
+     *                           instances which don't stand for an occurrence, e.g. shared ones.
+     */
+    protected MsException(
+            final List<IssueType> types,
+            final String message,
+            final Throwable cause,
+            final boolean enableSuppression,
+            final boolean writableStackTrace,
+            final boolean recordStatistics
+    ) {
+        super(message, cause, enableSuppression, writableStackTrace);
+        this.types = requireTypes(types);
+        this.reportingIssueType = types.get(0);
+        if (recordStatistics) {
+            MsExceptionStatistics.record(this, !writableStackTrace);
+        }
+    }
 
+    /**
+     * Creates an exception whose message is rendered by the given supplier when first read, then memoized.
+     * Suits exceptions which are often caught without their message being read.
+     *
+     * @param types              {@code List issueTypes} related to this exception.
+     *                           First type from provided list will be considered as a {@literal reportingIssueType}
+     * @param messageSupplier    renders message of the exception. Must not be {@literal null}.
+     * @param cause              cause of the exception. Can be {@literal null}.
+     * @param writableStackTrace whether the stack trace is captured. See {@link StacklessExceptions}.
+     */
+    MsException(
+            final List<IssueType> types,
+            final Supplier<String> messageSupplier,
+            final Throwable cause,
+            final boolean writableStackTrace
+    ) {
+        super(null, cause, true, writableStackTrace);
+        this.types = requireTypes(types);
+        this.reportingIssueType = types.get(0);
+        this.messageSupplier = messageSupplier;
+        MsExceptionStatistics.record(this, !writableStackTrace);
+    }
+
+    private static List<IssueType> requireTypes(final List<IssueType> types) {
         if (Objects.isNull(types) || types.isEmpty()) {
             throw new IllegalArgumentException(
                     "CommonMsException's issue types cannot be null and must contain at least one issue type"
             );
         }
-        this.types = types;
-        this.reportingIssueType = types.get(0);
+        return types;
+    }
+
+    @Override
+    public String getMessage() {
+        final Supplier<String> supplier = messageSupplier;
+        if (supplier != null) {
+            renderedMessage = supplier.get();
+            messageSupplier = null;
+        }
+        return renderedMessage != null ? renderedMessage : super.getMessage();
     }
 
     public final IssueType getReportingIssueType() {
@@ -39,6 +124,11 @@ public abstract class MsException extends RuntimeException {
         return Collections.unmodifiableList(types);
     }
 
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        getMessage();
+        out.defaultWriteObject();
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
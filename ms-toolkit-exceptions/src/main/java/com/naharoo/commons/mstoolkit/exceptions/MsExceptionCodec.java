@@ -0,0 +1,410 @@
+package com.naharoo.commons.mstoolkit.exceptions;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Compact binary encoding of {@link MsException}s, for exchanging them over internal RPC and messaging channels.
+ * <p>
+ * A payload starts with the format version, followed by the encoded exception and its cause chain, outermost first.
+ * Each exception is encoded as:
+ * <ol>
+ * <li>a kind tag: one of the exception types of this module, a custom {@link MsException} or a foreign cause;</li>
+ * <li>for {@link MsException}s, the number of issue types followed by each of them, either as the code of a
+ * {@link CommonIssueType} or as its String representation and status code;</li>
+ * <li>for foreign causes, the name of their class;</li>
+ * <li>the message, if any.</li>
+ * </ol>
+ * Counts, codes and lengths are unsigned variable-length integers, Strings are UTF-8 encoded. Stack traces are never
+ * encoded, and cause chains are cut after {@value #MAX_CAUSE_DEPTH} causes.
+ * <p>
+ * Decoding rebuilds the exception types of this module, resolves issue types through {@link IssueTypeRegistry} and
+ * represents exceptions of other types by {@link CustomMsException}s. Subclasses of the exception types of this module
+ * are rebuilt as the module type they extend. Foreign causes are represented by stackless
+ * exceptions reporting their original class name. Decoded exceptions aren't counted by {@link MsExceptionStatistics}.
+ */
+public final class MsExceptionCodec {
+
+    public static final int VERSION = 1;
+    public static final int MAX_CAUSE_DEPTH = 8;
+
+    private static final int KIND_END = 0;
+    private static final int KIND_CUSTOM = 1;
+    private static final int KIND_RESOURCE_NOT_FOUND = 2;
+    private static final int KIND_RESOURCE_ALREADY_EXISTS = 3;
+    private static final int KIND_RESOURCE_NOT_VIABLE = 4;
+    private static final int KIND_PRECONDITION_VIOLATION = 5;
+    private static final int KIND_VALIDATION_FAILED = 6;
+    private static final int KIND_FOREIGN = 7;
+
+    private static final int ISSUE_TYPE_NAMED = 0;
+
+    /**
+     * Codes of common issue types are their positions in this list plus one. Entries must never be reordered;
+     * new types may be appended only.
+     */
+    private static final List<CommonIssueType> COMMON_ISSUE_TYPE_CODES = Arrays.asList(
+            CommonIssueType.RESOURCE_NOT_FOUND,
+            CommonIssueType.RESOURCE_ALREADY_EXISTS,
+            CommonIssueType.RESOURCE_NOT_VIABLE,
+            CommonIssueType.PRECONDITION_VIOLATED,
+            CommonIssueType.DATA_INTEGRITY_CONSTRAINT_VIOLATED,
+            CommonIssueType.NOT_READABLE_REQUEST_BODY,
+            CommonIssueType.REQUEST_METHOD_NOT_SUPPORTED,
+            CommonIssueType.REQUEST_DATA_TYPE_MISMATCH,
+            CommonIssueType.MEDIA_TYPE_NOT_ACCEPTABLE,
+            CommonIssueType.MEDIA_TYPE_NOT_SUPPORTED,
+            CommonIssueType.REQUEST_HANDLER_MISSING
+    );
+    private static final int[] COMMON_ISSUE_TYPE_CODES_BY_ORDINAL = commonIssueTypeCodesByOrdinal();
+
+    private MsExceptionCodec() {
+    }
+
+    private static int[] commonIssueTypeCodesByOrdinal() {
+        final int[] codes = new int[CommonIssueType.values().length];
+        for (int i = 0; i < COMMON_ISSUE_TYPE_CODES.size(); i++) {
+            codes[COMMON_ISSUE_TYPE_CODES.get(i).ordinal()] = i + 1;
+        }
+        for (final CommonIssueType issueType : CommonIssueType.values()) {
+            if (codes[issueType.ordinal()] == ISSUE_TYPE_NAMED) {
+                throw new IllegalStateException(String.format(
+                        "%s common issue type has no code assigned in %s",
+                        issueType,
+                        MsExceptionCodec.class.getSimpleName()
+                ));
+            }
+        }
+        return codes;
+    }
+
+    /**
+     * @param exception must not be {@literal null}.
+     * @return the binary representation of the given exception and its cause chain.
+     */
+    public static byte[] encode(final MsException exception) {
+        if (Objects.isNull(exception)) {
+            throw new IllegalArgumentException("Encoded exception cannot be null");
+        }
+
+        final Writer writer = new Writer();
+        writer.writeVarInt(VERSION);
+        Throwable current = exception;
+        for (int depth = 0; current != null && depth <= MAX_CAUSE_DEPTH; depth++) {
+            encodeThrowable(current, writer);
+            current = current.getCause();
+        }
+        writer.writeVarInt(KIND_END);
+        return writer.toByteArray();
+    }
+
+    /**
+     * @param payload binary representation produced by {@link #encode(MsException)}. Must not be {@literal null}.
+     * @return the decoded exception.
+     * @throws IllegalArgumentException if the payload is malformed or of an unsupported version.
+     */
+    public static MsException decode(final byte[] payload) {
+        if (Objects.isNull(payload)) {
+            throw new IllegalArgumentException("Decoded payload cannot be null");
+        }
+        return decode(payload, 0, payload.length);
+    }
+
+    /**
+     * @param payload binary representation produced by {@link #encode(MsException)}. Must not be {@literal null}.
+     * @param offset  index of the first byte of the representation.
+     * @param length  number of bytes of the representation.
+     * @return the decoded exception.
+     * @throws IllegalArgumentException if the payload is malformed or of an unsupported version.
+     */
+    public static MsException decode(final byte[] payload, final int offset, final int length) {
+        if (Objects.isNull(payload)) {
+            throw new IllegalArgumentException("Decoded payload cannot be null");
+        }
+        if (offset < 0 || length < 0 || offset > payload.length - length) {
+            throw new IllegalArgumentException("Decoded payload bounds are out of range");
+        }
+
+        final Reader reader = new Reader(payload, offset, offset + length);
+        final int version = reader.readVarInt();
+        if (version != VERSION) {
+            throw new IllegalArgumentException(String.format("Unsupported MsException payload version %d", version));
+        }
+
+        final List<EncodedThrowable> chain = new ArrayList<>(2);
+        for (int kind = reader.readVarInt(); kind != KIND_END; kind = reader.readVarInt()) {
+            if (chain.size() > MAX_CAUSE_DEPTH) {
+                throw new IllegalArgumentException("Malformed MsException payload: cause chain is too long");
+            }
+            chain.add(decodeThrowable(kind, reader));
+        }
+        if (chain.isEmpty() || chain.get(0).kind == KIND_FOREIGN) {
+            throw new IllegalArgumentException("Malformed MsException payload: no MsException is encoded");
+        }
+
+        Throwable cause = null;
+        for (int i = chain.size() - 1; i >= 0; i--) {
+            cause = chain.get(i).toThrowable(cause);
+        }
+        return (MsException) cause;
+    }
+
+    private static void encodeThrowable(final Throwable throwable, final Writer writer) {
+        if (!(throwable instanceof MsException)) {
+            writer.writeVarInt(KIND_FOREIGN);
+            writer.writeString(throwable instanceof RemoteCauseException
+                               ? ((RemoteCauseException) throwable).getRemoteClassName()
+                               : throwable.getClass().getName());
+            writer.writeNullableString(throwable.getMessage());
+            return;
+        }
+
+        final MsException exception = (MsException) throwable;
+        writer.writeVarInt(kindOf(exception));
+        final List<IssueType> types = exception.getTypes();
+        writer.writeVarInt(types.size());
+        for (final IssueType type : types) {
+            if (type instanceof CommonIssueType) {
+                writer.writeVarInt(COMMON_ISSUE_TYPE_CODES_BY_ORDINAL[((CommonIssueType) type).ordinal()]);
+            } else {
+                writer.writeVarInt(ISSUE_TYPE_NAMED);
+                writer.writeString(type.asString());
+                writer.writeVarInt(type.statusCode() + 1);
+            }
+        }
+        writer.writeNullableString(exception.getMessage());
+    }
+
+    /**
+     * Subclasses of the exception types of this module are encoded as their nearest module type, so that receivers
+     * can still catch and handle them by that type. Module types have to be checked from the most specific to the
+     * least specific one; currently none of them extends another.
+     */
+    private static int kindOf(final MsException exception) {
+        if (exception instanceof ResourceNotFoundException) {
+            return KIND_RESOURCE_NOT_FOUND;
+        }
+        if (exception instanceof ResourceAlreadyExistsException) {
+            return KIND_RESOURCE_ALREADY_EXISTS;
+        }
+        if (exception instanceof ResourceNotViableException) {
+            return KIND_RESOURCE_NOT_VIABLE;
+        }
+        if (exception instanceof PreconditionViolationException) {
+            return KIND_PRECONDITION_VIOLATION;
+        }
+        if (exception instanceof ValidationFailedException) {
+            return KIND_VALIDATION_FAILED;
+        }
+        return KIND_CUSTOM;
+    }
+
+    private static EncodedThrowable decodeThrowable(final int kind, final Reader reader) {
+        if (kind == KIND_FOREIGN) {
+            final String className = reader.readString();
+            return new EncodedThrowable(kind, className, null, reader.readNullableString());
+        }
+        if (kind < KIND_CUSTOM || kind > KIND_VALIDATION_FAILED) {
+            throw new IllegalArgumentException(String.format("Malformed MsException payload: unknown kind %d", kind));
+        }
+
+        final int typeCount = reader.readVarInt();
+        if (typeCount == 0) {
+            throw new IllegalArgumentException("Malformed MsException payload: no issue type is encoded");
+        }
+        final List<IssueType> types = new ArrayList<>(Math.min(typeCount, 16));
+        for (int i = 0; i < typeCount; i++) {
+            types.add(decodeIssueType(reader));
+        }
+        return new EncodedThrowable(kind, null, types, reader.readNullableString());
+    }
+
+    private static IssueType decodeIssueType(final Reader reader) {
+        final int code = reader.readVarInt();
+        if (code != ISSUE_TYPE_NAMED) {
+            if (code > COMMON_ISSUE_TYPE_CODES.size()) {
+                throw new IllegalArgumentException(String.format(
+                        "Malformed MsException payload: unknown issue type code %d",
+                        code
+                ));
+            }
+            return COMMON_ISSUE_TYPE_CODES.get(code - 1);
+        }
+
+        final String value = reader.readString();
+        final int statusCode = reader.readVarInt() - 1;
+        return IssueTypeRegistry.resolve(value, statusCode);
+    }
+
+    private static final class EncodedThrowable {
+
+        private final int kind;
+        private final String className;
+        private final List<IssueType> types;
+        private final String message;
+
+        private EncodedThrowable(
+                final int kind,
+                final String className,
+                final List<IssueType> types,
+                final String message
+        ) {
+            this.kind = kind;
+            this.className = className;
+            this.types = types;
+            this.message = message;
+        }
+
+        private Throwable toThrowable(final Throwable cause) {
+            switch (kind) {
+                case KIND_RESOURCE_NOT_FOUND:
+                    return new ResourceNotFoundException(
+                            message,
+                            cause,
+                            true,
+                            !StacklessExceptions.isStackless(ResourceNotFoundException.class),
+                            false
+                    );
+                case KIND_RESOURCE_ALREADY_EXISTS:
+                    return new ResourceAlreadyExistsException(
+                            message,
+                            cause,
+                            true,
+                            !StacklessExceptions.isStackless(ResourceAlreadyExistsException.class),
+                            false
+                    );
+                case KIND_RESOURCE_NOT_VIABLE:
+                    return new ResourceNotViableException(
+                            message,
+                            cause,
+                            true,
+                            !StacklessExceptions.isStackless(ResourceNotViableException.class),
+                            false
+                    );
+                case KIND_PRECONDITION_VIOLATION:
+                    return new PreconditionViolationException(
+                            message,
+                            cause,
+                            true,
+                            !StacklessExceptions.isStackless(PreconditionViolationException.class),
+                            false
+                    );
+                case KIND_VALIDATION_FAILED:
+                    return new ValidationFailedException(
+                            message,
+                            cause,
+                            true,
+                            !StacklessExceptions.isStackless(ValidationFailedException.class),
+                            false
+                    );
+                case KIND_FOREIGN:
+                    return new RemoteCauseException(className, message, cause);
+                default:
+                    return new CustomMsException(
+                            types,
+                            message,
+                            cause,
+                            true,
+                            !StacklessExceptions.isStackless(CustomMsException.class),
+                            false
+                    );
+            }
+        }
+    }
+
+    private static final class Writer {
+
+        private byte[] buffer = new byte[64];
+        private int position;
+
+        private void writeVarInt(final int value) {
+            ensureCapacity(5);
+            int remaining = value;
+            while ((remaining & ~0x7F) != 0) {
+                buffer[position++] = (byte) ((remaining & 0x7F) | 0x80);
+                remaining >>>= 7;
+            }
+            buffer[position++] = (byte) remaining;
+        }
+
+        private void writeString(final String value) {
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        private void writeNullableString(final String value) {
+            if (value == null) {
+                writeVarInt(0);
+                return;
+            }
+
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length + 1);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        private void ensureCapacity(final int additional) {
+            if (position + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+            }
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+    }
+
+    private static final class Reader {
+
+        private final byte[] payload;
+        private final int limit;
+        private int position;
+
+        private Reader(final byte[] payload, final int offset, final int limit) {
+            this.payload = payload;
+            this.position = offset;
+            this.limit = limit;
+        }
+
+        private int readVarInt() {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                if (position >= limit) {
+                    throw new IllegalArgumentException("Malformed MsException payload: unexpected end");
+                }
+                final byte next = payload[position++];
+                value |= (next & 0x7F) << shift;
+                if (next >= 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed MsException payload: integer is too long");
+        }
+
+        private String readString() {
+            return readString(readVarInt());
+        }
+
+        private String readNullableString() {
+            final int lengthPlusOne = readVarInt();
+            return lengthPlusOne == 0 ? null : readString(lengthPlusOne - 1);
+        }
+
+        private String readString(final int length) {
+            if (length < 0 || length > limit - position) {
+                throw new IllegalArgumentException("Malformed MsException payload: string exceeds the payload");
+            }
+            final String value = new String(payload, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+    }
+}
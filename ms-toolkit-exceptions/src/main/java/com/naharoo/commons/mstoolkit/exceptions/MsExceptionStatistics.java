@@ -0,0 +1,190 @@
+package com.naharoo.commons.mstoolkit.exceptions;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * Lock-free occurrence counters of {@link MsException}s per {@link IssueType}, keyed by its String representation.
+ * <p>
+ * Every created exception increments the counters of all its issue types, unless it is created with the
+ * {@code recordStatistics} constructor flag disabled. Shared instances are meant to be thrown repeatedly, hence they
+ * aren't counted on creation; their occurrences can be counted with {@link #increment(IssueType)}. Exceptions decoded
+ * by {@link MsExceptionCodec} aren't counted either, as they have been counted by the service which threw them.
+ * <p>
+ * Counters never decrease, as monitoring systems they are exposed to read a decrease as a restart. Occurrences within
+ * an interval are the difference between two {@link #getCounts()} snapshots.
+ * <p>
+ * Optionally, stack traces of 1 in {@link #getStackTraceSamplingRate()} stackless exceptions are captured, so the
+ * origin of frequent stackless exceptions can still be found. The latest sample is kept per reporting issue type.
+ * <p>
+ * Counting is enabled by default, unless the {@value #ENABLED_PROPERTY} system property is set to {@code false}.
+ * Sampling is disabled by default, unless the {@value #SAMPLING_RATE_PROPERTY} system property is set to a positive
+ * rate.
+ */
+public final class MsExceptionStatistics {
+
+    public static final String ENABLED_PROPERTY = "ms-toolkit.exceptions.statistics.enabled";
+    public static final String SAMPLING_RATE_PROPERTY = "ms-toolkit.exceptions.statistics.stack-trace-sampling-rate";
+
+    private static final ConcurrentMap<String, LongAdder> COUNTERS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, StackTraceElement[]> SAMPLED_STACK_TRACES = new ConcurrentHashMap<>();
+    private static final List<BiConsumer<String, LongAdder>> COUNTER_LISTENERS = new CopyOnWriteArrayList<>();
+
+    private static volatile boolean enabled = Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true"));
+    private static volatile int stackTraceSamplingRate = Integer.getInteger(SAMPLING_RATE_PROPERTY, 0);
+
+    private MsExceptionStatistics() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(final boolean enabled) {
+        MsExceptionStatistics.enabled = enabled;
+    }
+
+    /**
+     * @return N, where 1 in N stackless exceptions has its stack trace sampled; {@code 0} if sampling is disabled.
+     */
+    public static int getStackTraceSamplingRate() {
+        return stackTraceSamplingRate;
+    }
+
+    /**
+     * @param rate N, where 1 in N stackless exceptions has its stack trace sampled. {@code 0} disables sampling.
+     *             Must not be negative.
+     */
+    public static void setStackTraceSamplingRate(final int rate) {
+        if (rate < 0) {
+            throw new IllegalArgumentException("Stack trace sampling rate cannot be negative");
+        }
+        stackTraceSamplingRate = rate;
+    }
+
+    /**
+     * Counts an occurrence of the given issue type.
+     *
+     * @param issueType must not be {@literal null}.
+     */
+    public static void increment(final IssueType issueType) {
+        if (Objects.isNull(issueType)) {
+            throw new IllegalArgumentException("Counted issue type cannot be null");
+        }
+        if (enabled) {
+            counter(issueType.asString()).increment();
+        }
+    }
+
+    /**
+     * @param issueType must not be {@literal null}.
+     * @return number of counted occurrences of the given issue type.
+     */
+    public static long getCount(final IssueType issueType) {
+        if (Objects.isNull(issueType)) {
+            throw new IllegalArgumentException("Counted issue type cannot be null");
+        }
+        final LongAdder counter = COUNTERS.get(issueType.asString());
+        return counter == null ? 0 : counter.sum();
+    }
+
+    /**
+     * @return snapshot of counted occurrences, keyed by String representations of issue types.
+     */
+    public static Map<String, Long> getCounts() {
+        final Map<String, Long> counts = new TreeMap<>();
+        COUNTERS.forEach((issueType, counter) -> counts.put(issueType, counter.sum()));
+        return Collections.unmodifiableMap(counts);
+    }
+
+    /**
+     * @param issueType must not be {@literal null}.
+     * @return the latest sampled stack trace of stackless exceptions reporting the given issue type, if any.
+     */
+    public static Optional<StackTraceElement[]> getSampledStackTrace(final IssueType issueType) {
+        if (Objects.isNull(issueType)) {
+            throw new IllegalArgumentException("Sampled issue type cannot be null");
+        }
+        return Optional.ofNullable(SAMPLED_STACK_TRACES.get(issueType.asString())).map(StackTraceElement[]::clone);
+    }
+
+    /**
+     * Registers a listener notified of every counter, the existing ones immediately and new ones upon their creation.
+     * Used to expose counters to monitoring systems. Listeners are kept until removed with
+     * {@link #removeCounterListener(BiConsumer)}. Counters created concurrently with the registration may be
+     * reported twice, so listeners have to be idempotent.
+     *
+     * @param listener accepting the String representation of an issue type and its counter.
+     *                 Must not be {@literal null}.
+     */
+    public static void addCounterListener(final BiConsumer<String, LongAdder> listener) {
+        if (Objects.isNull(listener)) {
+            throw new IllegalArgumentException("Counter listener cannot be null");
+        }
+        COUNTER_LISTENERS.add(listener);
+        COUNTERS.forEach(listener);
+    }
+
+    /**
+     * Unregisters a listener registered with {@link #addCounterListener(BiConsumer)}. Does nothing if it isn't
+     * registered.
+     *
+     * @param listener must not be {@literal null}.
+     */
+    public static void removeCounterListener(final BiConsumer<String, LongAdder> listener) {
+        if (Objects.isNull(listener)) {
+            throw new IllegalArgumentException("Counter listener cannot be null");
+        }
+        COUNTER_LISTENERS.remove(listener);
+    }
+
+    /**
+     * Drops sampled stack traces.
+     */
+    public static void clearSampledStackTraces() {
+        SAMPLED_STACK_TRACES.clear();
+    }
+
+    static void record(final MsException exception, final boolean stackless) {
+        if (!enabled) {
+            return;
+        }
+
+        for (final IssueType issueType : exception.getTypes()) {
+            counter(issueType.asString()).increment();
+        }
+
+        final int samplingRate = stackTraceSamplingRate;
+        if (stackless && samplingRate > 0 && ThreadLocalRandom.current().nextInt(samplingRate) == 0) {
+            SAMPLED_STACK_TRACES.put(
+                    exception.getReportingIssueType().asString(),
+                    new Throwable().getStackTrace()
+            );
+        }
+    }
+
+    private static LongAdder counter(final String issueType) {
+        final LongAdder counter = COUNTERS.get(issueType);
+        if (counter != null) {
+            return counter;
+        }
+
+        final LongAdder created = new LongAdder();
+        final LongAdder existing = COUNTERS.putIfAbsent(issueType, created);
+        if (existing != null) {
+            return existing;
+        }
+        COUNTER_LISTENERS.forEach(listener -> listener.accept(issueType, created));
+        return created;
+    }
+}
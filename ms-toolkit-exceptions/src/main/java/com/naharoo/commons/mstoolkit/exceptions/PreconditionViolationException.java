@@ -6,9 +6,45 @@ public class PreconditionViolationException extends MsException {
 
     private static final long serialVersionUID = 1441613319507470057L;
     private static final String DEFAULT_MESSAGE_FORMAT = "'%s' precondition is violated.";
+    private static final PreconditionViolationException SHARED_INSTANCE =
+            new PreconditionViolationException(null, null, false, false, false);
 
     public PreconditionViolationException(final String message, final Throwable cause) {
-        super(singletonList(CommonIssueType.PRECONDITION_VIOLATED), message, cause);
+        this(message, cause, true, !StacklessExceptions.isStackless(PreconditionViolationException.class));
+    }
+
+    protected PreconditionViolationException(
+            final String message,
+            final Throwable cause,
+            final boolean enableSuppression,
+            final boolean writableStackTrace
+    ) {
+        this(message, cause, enableSuppression, writableStackTrace, true);
+    }
+
+    protected PreconditionViolationException(
+            final String message,
+            final Throwable cause,
+            final boolean enableSuppression,
+            final boolean writableStackTrace,
+            final boolean recordStatistics
+    ) {
+        super(
+                singletonList(CommonIssueType.PRECONDITION_VIOLATED),
+                message,
+                cause,
+                enableSuppression,
+                writableStackTrace,
+                recordStatistics
+        );
+    }
+
+    /**
+     * @return shared, immutable instance without message, cause and stack trace.
+     * Suitable where only the type of the failure matters.
+     */
+    public static PreconditionViolationException sharedInstance() {
+        return SHARED_INSTANCE;
     }
 
     public static PreconditionViolationException createInstance(final String precondition, final Throwable cause) {
@@ -0,0 +1,27 @@
+package com.naharoo.commons.mstoolkit.exceptions;
+
+/**
+ * Stands for a cause decoded by {@link MsExceptionCodec} which isn't an {@link MsException}. Carries the class name
+ * and message of the original cause, but not its stack trace.
+ */
+final class RemoteCauseException extends RuntimeException {
+
+    private static final long serialVersionUID = 4419087164470386672L;
+
+    private final String remoteClassName;
+
+    RemoteCauseException(final String remoteClassName, final String message, final Throwable cause) {
+        super(message, cause, true, false);
+        this.remoteClassName = remoteClassName;
+    }
+
+    String getRemoteClassName() {
+        return remoteClassName;
+    }
+
+    @Override
+    public String toString() {
+        final String message = getLocalizedMessage();
+        return message != null ? remoteClassName + ": " + message : remoteClassName;
+    }
+}
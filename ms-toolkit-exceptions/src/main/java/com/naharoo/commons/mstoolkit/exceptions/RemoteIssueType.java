@@ -0,0 +1,61 @@
+package com.naharoo.commons.mstoolkit.exceptions;
+
+import java.util.Objects;
+
+/**
+ * Issue type received from another service which isn't registered in {@link IssueTypeRegistry}. Carries the String
+ * representation and the status code reported by the other service.
+ * <p>
+ * Instances are obtained through {@link IssueTypeRegistry#resolve(String, int)}.
+ */
+public final class RemoteIssueType implements IssueType {
+
+    private static final long serialVersionUID = -2837645911058323741L;
+
+    private final String value;
+    private final int statusCode;
+
+    RemoteIssueType(final String value, final int statusCode) {
+        this.value = value;
+        this.statusCode = statusCode;
+    }
+
+    @Override
+    public String asString() {
+        return value;
+    }
+
+    @Override
+    public int statusCode() {
+        return statusCode;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        final RemoteIssueType that = (RemoteIssueType) o;
+
+        if (statusCode != that.statusCode) {
+            return false;
+        }
+        return Objects.equals(value, that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = value != null ? value.hashCode() : 0;
+        result = 31 * result + statusCode;
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
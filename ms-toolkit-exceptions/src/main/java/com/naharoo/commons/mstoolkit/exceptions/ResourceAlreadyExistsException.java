@@ -1,8 +1,9 @@
 package com.naharoo.commons.mstoolkit.exceptions;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
 import static java.util.Collections.singletonList;
 
@@ -10,9 +11,54 @@ public class ResourceAlreadyExistsException extends MsException {
 
     private static final long serialVersionUID = 8395113877763828231L;
     private static final String DEFAULT_MESSAGE_FORMAT = "%s already exists by %s.";
+    private static final ResourceAlreadyExistsException SHARED_INSTANCE =
+            new ResourceAlreadyExistsException(null, null, false, false, false);
 
     public ResourceAlreadyExistsException(final String message, final Throwable cause) {
-        super(singletonList(CommonIssueType.RESOURCE_ALREADY_EXISTS), message, cause);
+        this(message, cause, true, !StacklessExceptions.isStackless(ResourceAlreadyExistsException.class));
+    }
+
+    protected ResourceAlreadyExistsException(
+            final String message,
+            final Throwable cause,
+            final boolean enableSuppression,
+            final boolean writableStackTrace
+    ) {
+        this(message, cause, enableSuppression, writableStackTrace, true);
+    }
+
+    protected ResourceAlreadyExistsException(
+            final String message,
+            final Throwable cause,
+            final boolean enableSuppression,
+            final boolean writableStackTrace,
+            final boolean recordStatistics
+    ) {
+        super(
+                singletonList(CommonIssueType.RESOURCE_ALREADY_EXISTS),
+                message,
+                cause,
+                enableSuppression,
+                writableStackTrace,
+                recordStatistics
+        );
+    }
+
+    private ResourceAlreadyExistsException(final Supplier<String> messageSupplier, final Throwable cause) {
+        super(
+                singletonList(CommonIssueType.RESOURCE_ALREADY_EXISTS),
+                messageSupplier,
+                cause,
+                !StacklessExceptions.isStackless(ResourceAlreadyExistsException.class)
+        );
+    }
+
+    /**
+     * @return shared, immutable instance without message, cause and stack trace.
+     * Suitable where only the type of the failure matters.
+     */
+    public static ResourceAlreadyExistsException sharedInstance() {
+        return SHARED_INSTANCE;
     }
 
     public static ResourceAlreadyExistsException createInstance(
@@ -21,7 +67,7 @@ public class ResourceAlreadyExistsException extends MsException {
             final Throwable cause
     ) {
         return new ResourceAlreadyExistsException(
-                String.format(DEFAULT_MESSAGE_FORMAT, resourceName, resourceIdentifier),
+                () -> String.format(DEFAULT_MESSAGE_FORMAT, resourceName, resourceIdentifier),
                 cause
         );
     }
@@ -32,7 +78,14 @@ public class ResourceAlreadyExistsException extends MsException {
             final Object value,
             final Throwable cause
     ) {
-        return createInstance(resourceName, formatFieldValue(field, value), cause);
+        return new ResourceAlreadyExistsException(
+                () -> String.format(
+                        DEFAULT_MESSAGE_FORMAT,
+                        resourceName,
+                        ResourceMessages.formatFieldValue(field, value)
+                ),
+                cause
+        );
     }
 
     public static ResourceAlreadyExistsException createInstance(
@@ -40,7 +93,7 @@ public class ResourceAlreadyExistsException extends MsException {
             final String field,
             final Object value
     ) {
-        return createInstance(resourceName, formatFieldValue(field, value), null);
+        return createInstance(resourceName, field, value, null);
     }
 
     public static ResourceAlreadyExistsException createInstance(
@@ -56,7 +109,15 @@ public class ResourceAlreadyExistsException extends MsException {
             final Map<String, Object> fieldValuePairs,
             final Throwable cause
     ) {
-        return createInstance(resourceName, fieldValuePairsToString(fieldValuePairs), cause);
+        final Map<String, Object> pairs = Objects.isNull(fieldValuePairs) ? null : new LinkedHashMap<>(fieldValuePairs);
+        return new ResourceAlreadyExistsException(
+                () -> String.format(
+                        DEFAULT_MESSAGE_FORMAT,
+                        resourceName,
+                        ResourceMessages.formatFieldValuePairs(pairs)
+                ),
+                cause
+        );
     }
 
     public static ResourceAlreadyExistsException createInstance(
@@ -80,25 +141,4 @@ public class ResourceAlreadyExistsException extends MsException {
     ) {
         return createInstance(resourceClass.getSimpleName(), fieldValuePairs);
     }
-
-    private static String fieldValuePairsToString(final Map<String, Object> fieldValuePairs) {
-        if (Objects.isNull(fieldValuePairs) || fieldValuePairs.isEmpty()) {
-            return null;
-        }
-
-        return fieldValuePairs
-                .entrySet()
-                .stream()
-                .filter(Objects::nonNull)
-                .map(entry -> formatFieldValue(entry.getKey(), entry.getValue()))
-                .collect(Collectors.joining(", "));
-    }
-
-    private static String formatFieldValue(final String key, final Object value) {
-        return String.format(
-                "%s: %s",
-                key,
-                value instanceof String ? String.format("'%s'", value) : value
-        );
-    }
 }
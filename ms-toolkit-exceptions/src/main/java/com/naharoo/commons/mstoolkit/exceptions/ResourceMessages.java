@@ -0,0 +1,35 @@
+package com.naharoo.commons.mstoolkit.exceptions;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Renders identifiers of resources in messages of resource related exceptions.
+ */
+final class ResourceMessages {
+
+    private ResourceMessages() {
+    }
+
+    static String formatFieldValue(final String field, final Object value) {
+        return value instanceof String ? field + ": '" + value + "'" : field + ": " + value;
+    }
+
+    static String formatFieldValuePairs(final Map<String, Object> fieldValuePairs) {
+        if (Objects.isNull(fieldValuePairs) || fieldValuePairs.isEmpty()) {
+            return null;
+        }
+
+        final StringBuilder builder = new StringBuilder();
+        final Iterator<Map.Entry<String, Object>> iterator = fieldValuePairs.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<String, Object> entry = iterator.next();
+            builder.append(formatFieldValue(entry.getKey(), entry.getValue()));
+            if (iterator.hasNext()) {
+                builder.append(", ");
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -1,8 +1,9 @@
 package com.naharoo.commons.mstoolkit.exceptions;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
 import static java.util.Collections.singletonList;
 
@@ -10,9 +11,54 @@ public class ResourceNotFoundException extends MsException {
 
     private static final long serialVersionUID = 8395113877763828231L;
     private static final String DEFAULT_MESSAGE_FORMAT = "No %s can be found by given %s.";
+    private static final ResourceNotFoundException SHARED_INSTANCE =
+            new ResourceNotFoundException(null, null, false, false, false);
 
     public ResourceNotFoundException(final String message, final Throwable cause) {
-        super(singletonList(CommonIssueType.RESOURCE_NOT_FOUND), message, cause);
+        this(message, cause, true, !StacklessExceptions.isStackless(ResourceNotFoundException.class));
+    }
+
+    protected ResourceNotFoundException(
+            final String message,
+            final Throwable cause,
+            final boolean enableSuppression,
+            final boolean writableStackTrace
+    ) {
+        this(message, cause, enableSuppression, writableStackTrace, true);
+    }
+
+    protected ResourceNotFoundException(
+            final String message,
+            final Throwable cause,
+            final boolean enableSuppression,
+            final boolean writableStackTrace,
+            final boolean recordStatistics
+    ) {
+        super(
+                singletonList(CommonIssueType.RESOURCE_NOT_FOUND),
+                message,
+                cause,
+                enableSuppression,
+                writableStackTrace,
+                recordStatistics
+        );
+    }
+
+    private ResourceNotFoundException(final Supplier<String> messageSupplier, final Throwable cause) {
+        super(
+                singletonList(CommonIssueType.RESOURCE_NOT_FOUND),
+                messageSupplier,
+                cause,
+                !StacklessExceptions.isStackless(ResourceNotFoundException.class)
+        );
+    }
+
+    /**
+     * @return shared, immutable instance without message, cause and stack trace.
+     * Suitable where only the type of the failure matters.
+     */
+    public static ResourceNotFoundException sharedInstance() {
+        return SHARED_INSTANCE;
     }
 
     public static ResourceNotFoundException createInstance(
@@ -21,7 +67,7 @@ public class ResourceNotFoundException extends MsException {
             final Throwable cause
     ) {
         return new ResourceNotFoundException(
-                String.format(DEFAULT_MESSAGE_FORMAT, resourceName, resourceIdentifier),
+                () -> String.format(DEFAULT_MESSAGE_FORMAT, resourceName, resourceIdentifier),
                 cause
         );
     }
@@ -32,7 +78,14 @@ public class ResourceNotFoundException extends MsException {
             final Object value,
             final Throwable cause
     ) {
-        return createInstance(resourceName, formatFieldValue(field, value), cause);
+        return new ResourceNotFoundException(
+                () -> String.format(
+                        DEFAULT_MESSAGE_FORMAT,
+                        resourceName,
+                        ResourceMessages.formatFieldValue(field, value)
+                ),
+                cause
+        );
     }
 
     public static ResourceNotFoundException createInstance(
@@ -40,7 +93,7 @@ public class ResourceNotFoundException extends MsException {
             final String field,
             final Object value
     ) {
-        return createInstance(resourceName, formatFieldValue(field, value), null);
+        return createInstance(resourceName, field, value, null);
     }
 
     public static ResourceNotFoundException createInstance(
@@ -56,7 +109,15 @@ public class ResourceNotFoundException extends MsException {
             final Map<String, Object> fieldValuePairs,
             final Throwable cause
     ) {
-        return createInstance(resourceName, fieldValuePairsToString(fieldValuePairs), cause);
+        final Map<String, Object> pairs = Objects.isNull(fieldValuePairs) ? null : new LinkedHashMap<>(fieldValuePairs);
+        return new ResourceNotFoundException(
+                () -> String.format(
+                        DEFAULT_MESSAGE_FORMAT,
+                        resourceName,
+                        ResourceMessages.formatFieldValuePairs(pairs)
+                ),
+                cause
+        );
     }
 
     public static ResourceNotFoundException createInstance(
@@ -80,25 +141,4 @@ public class ResourceNotFoundException extends MsException {
     ) {
         return createInstance(resourceClass.getSimpleName(), fieldValuePairs);
     }
-
-    private static String fieldValuePairsToString(final Map<String, Object> fieldValuePairs) {
-        if (Objects.isNull(fieldValuePairs) || fieldValuePairs.isEmpty()) {
-            return null;
-        }
-
-        return fieldValuePairs
-                .entrySet()
-                .stream()
-                .filter(Objects::nonNull)
-                .map(entry -> formatFieldValue(entry.getKey(), entry.getValue()))
-                .collect(Collectors.joining(", "));
-    }
-
-    private static String formatFieldValue(final String key, final Object value) {
-        return String.format(
-                "%s: %s",
-                key,
-                value instanceof String ? String.format("'%s'", value) : value
-        );
-    }
 }
@@ -1,8 +1,9 @@
 package com.naharoo.commons.mstoolkit.exceptions;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
 import static java.util.Collections.singletonList;
 
@@ -10,9 +11,54 @@ public class ResourceNotViableException extends MsException {
 
     private static final long serialVersionUID = 1441613319507470057L;
     private static final String DEFAULT_MESSAGE_FORMAT = "%s by given %s is not viable.";
+    private static final ResourceNotViableException SHARED_INSTANCE =
+            new ResourceNotViableException(null, null, false, false, false);
 
     public ResourceNotViableException(final String message, final Throwable cause) {
-        super(singletonList(CommonIssueType.RESOURCE_NOT_VIABLE), message, cause);
+        this(message, cause, true, !StacklessExceptions.isStackless(ResourceNotViableException.class));
+    }
+
+    protected ResourceNotViableException(
+            final String message,
+            final Throwable cause,
+            final boolean enableSuppression,
+            final boolean writableStackTrace
+    ) {
+        this(message, cause, enableSuppression, writableStackTrace, true);
+    }
+
+    protected ResourceNotViableException(
+            final String message,
+            final Throwable cause,
+            final boolean enableSuppression,
+            final boolean writableStackTrace,
+            final boolean recordStatistics
+    ) {
+        super(
+                singletonList(CommonIssueType.RESOURCE_NOT_VIABLE),
+                message,
+                cause,
+                enableSuppression,
+                writableStackTrace,
+                recordStatistics
+        );
+    }
+
+    private ResourceNotViableException(final Supplier<String> messageSupplier, final Throwable cause) {
+        super(
+                singletonList(CommonIssueType.RESOURCE_NOT_VIABLE),
+                messageSupplier,
+                cause,
+                !StacklessExceptions.isStackless(ResourceNotViableException.class)
+        );
+    }
+
+    /**
+     * @return shared, immutable instance without message, cause and stack trace.
+     * Suitable where only the type of the failure matters.
+     */
+    public static ResourceNotViableException sharedInstance() {
+        return SHARED_INSTANCE;
     }
 
     public static ResourceNotViableException createInstance(
@@ -21,7 +67,7 @@ public class ResourceNotViableException extends MsException {
             final Throwable cause
     ) {
         return new ResourceNotViableException(
-                String.format(DEFAULT_MESSAGE_FORMAT, resourceName, resourceIdentifier),
+                () -> String.format(DEFAULT_MESSAGE_FORMAT, resourceName, resourceIdentifier),
                 cause
         );
     }
@@ -32,7 +78,14 @@ public class ResourceNotViableException extends MsException {
             final Object value,
             final Throwable cause
     ) {
-        return createInstance(resourceName, formatFieldValue(field, value), cause);
+        return new ResourceNotViableException(
+                () -> String.format(
+                        DEFAULT_MESSAGE_FORMAT,
+                        resourceName,
+                        ResourceMessages.formatFieldValue(field, value)
+                ),
+                cause
+        );
     }
 
     public static ResourceNotViableException createInstance(
@@ -40,7 +93,7 @@ public class ResourceNotViableException extends MsException {
             final String field,
             final Object value
     ) {
-        return createInstance(resourceName, formatFieldValue(field, value), null);
+        return createInstance(resourceName, field, value, null);
     }
 
     public static ResourceNotViableException createInstance(
@@ -56,7 +109,15 @@ public class ResourceNotViableException extends MsException {
             final Map<String, Object> fieldValuePairs,
             final Throwable cause
     ) {
-        return createInstance(resourceName, fieldValuePairsToString(fieldValuePairs), cause);
+        final Map<String, Object> pairs = Objects.isNull(fieldValuePairs) ? null : new LinkedHashMap<>(fieldValuePairs);
+        return new ResourceNotViableException(
+                () -> String.format(
+                        DEFAULT_MESSAGE_FORMAT,
+                        resourceName,
+                        ResourceMessages.formatFieldValuePairs(pairs)
+                ),
+                cause
+        );
     }
 
     public static ResourceNotViableException createInstance(
@@ -80,25 +141,4 @@ public class ResourceNotViableException extends MsException {
     ) {
         return createInstance(resourceClass.getSimpleName(), fieldValuePairs);
     }
-
-    private static String fieldValuePairsToString(final Map<String, Object> fieldValuePairs) {
-        if (Objects.isNull(fieldValuePairs) || fieldValuePairs.isEmpty()) {
-            return null;
-        }
-
-        return fieldValuePairs
-                .entrySet()
-                .stream()
-                .filter(Objects::nonNull)
-                .map(entry -> formatFieldValue(entry.getKey(), entry.getValue()))
-                .collect(Collectors.joining(", "));
-    }
-
-    private static String formatFieldValue(final String key, final Object value) {
-        return String.format(
-                "%s: %s",
-                key,
-                value instanceof String ? String.format("'%s'", value) : value
-        );
-    }
 }
@@ -0,0 +1,66 @@
+package com.naharoo.commons.mstoolkit.exceptions;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Controls whether {@link MsException}s capture the stack trace of the throwing thread.
+ * <p>
+ * Capturing a stack trace costs far more than allocating the exception itself, which matters for exceptions used as
+ * expected outcomes, e.g. {@link ResourceNotFoundException} thrown on every miss. Stackless exceptions are created
+ * with the {@code writableStackTrace} flag of {@link RuntimeException} disabled, so their stack trace is empty.
+ * <p>
+ * Exceptions are stackless by default if the {@value #STACKLESS_PROPERTY} system property is set to {@code true}.
+ * The default can be changed at runtime and overridden per exception type. Exception types provided by this module
+ * are looked up by their own class, other subclasses of {@link MsException} follow the default.
+ * Settings apply to exceptions created afterwards.
+ */
+public final class StacklessExceptions {
+
+    public static final String STACKLESS_PROPERTY = "ms-toolkit.exceptions.stackless";
+
+    private static final Map<Class<? extends MsException>, Boolean> STACKLESS_BY_TYPE = new ConcurrentHashMap<>();
+    private static volatile boolean stacklessByDefault = Boolean.getBoolean(STACKLESS_PROPERTY);
+
+    private StacklessExceptions() {
+    }
+
+    public static boolean isStacklessByDefault() {
+        return stacklessByDefault;
+    }
+
+    public static void setStacklessByDefault(final boolean stackless) {
+        stacklessByDefault = stackless;
+    }
+
+    /**
+     * @param type      exception type whose setting is overridden. Must not be {@literal null}.
+     * @param stackless whether exceptions of given type have to be stackless, regardless of the default.
+     */
+    public static void setStackless(final Class<? extends MsException> type, final boolean stackless) {
+        if (Objects.isNull(type)) {
+            throw new IllegalArgumentException("Stackless exception type cannot be null");
+        }
+        STACKLESS_BY_TYPE.put(type, stackless);
+    }
+
+    /**
+     * @param type exception type which has to follow the default again. Must not be {@literal null}.
+     */
+    public static void resetStackless(final Class<? extends MsException> type) {
+        if (Objects.isNull(type)) {
+            throw new IllegalArgumentException("Stackless exception type cannot be null");
+        }
+        STACKLESS_BY_TYPE.remove(type);
+    }
+
+    /**
+     * @param type exception type. Must not be {@literal null}.
+     * @return whether exceptions of given type are created without stack traces.
+     */
+    public static boolean isStackless(final Class<? extends MsException> type) {
+        final Boolean stackless = STACKLESS_BY_TYPE.get(type);
+        return stackless != null ? stackless : stacklessByDefault;
+    }
+}
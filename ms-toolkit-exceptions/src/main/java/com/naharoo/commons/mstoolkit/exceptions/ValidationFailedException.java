@@ -6,9 +6,45 @@ public class ValidationFailedException extends MsException {
 
     private static final long serialVersionUID = 1441613319507470057L;
     private static final String DEFAULT_MESSAGE_FORMAT = "'%s' precondition is violated.";
+    private static final ValidationFailedException SHARED_INSTANCE =
+            new ValidationFailedException(null, null, false, false, false);
 
     public ValidationFailedException(final String message, final Throwable cause) {
-        super(singletonList(CommonIssueType.PRECONDITION_VIOLATED), message, cause);
+        this(message, cause, true, !StacklessExceptions.isStackless(ValidationFailedException.class));
+    }
+
+    protected ValidationFailedException(
+            final String message,
+            final Throwable cause,
+            final boolean enableSuppression,
+            final boolean writableStackTrace
+    ) {
+        this(message, cause, enableSuppression, writableStackTrace, true);
+    }
+
+    protected ValidationFailedException(
+            final String message,
+            final Throwable cause,
+            final boolean enableSuppression,
+            final boolean writableStackTrace,
+            final boolean recordStatistics
+    ) {
+        super(
+                singletonList(CommonIssueType.PRECONDITION_VIOLATED),
+                message,
+                cause,
+                enableSuppression,
+                writableStackTrace,
+                recordStatistics
+        );
+    }
+
+    /**
+     * @return shared, immutable instance without message, cause and stack trace.
+     * Suitable where only the type of the failure matters.
+     */
+    public static ValidationFailedException sharedInstance() {
+        return SHARED_INSTANCE;
     }
 
     public static ValidationFailedException createInstance(final String precondition, final Throwable cause) {
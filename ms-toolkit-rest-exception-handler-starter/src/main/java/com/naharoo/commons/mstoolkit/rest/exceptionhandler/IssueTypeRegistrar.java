@@ -0,0 +1,84 @@
+package com.naharoo.commons.mstoolkit.rest.exceptionhandler;
+
+import com.naharoo.commons.mstoolkit.exceptions.IssueType;
+import com.naharoo.commons.mstoolkit.exceptions.IssueTypeRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import javax.annotation.PostConstruct;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Registers enums implementing {@link IssueType} found on the classpath in {@link IssueTypeRegistry}, so that issue
+ * types received from other services resolve to their canonical instances.
+ * <p>
+ * Scans {@code ms-toolkit.rest-exception-handler.issue-types.base-packages} or, if not set, the auto-configuration
+ * packages of the application.
+ */
+@Component
+public class IssueTypeRegistrar {
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final IssueTypeRegistryProperties properties;
+    private final BeanFactory beanFactory;
+
+    @Autowired
+    public IssueTypeRegistrar(final IssueTypeRegistryProperties properties, final BeanFactory beanFactory) {
+        this.properties = properties;
+        this.beanFactory = beanFactory;
+    }
+
+    @PostConstruct
+    public void registerIssueTypes() {
+        final ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+        final ClassPathScanningCandidateComponentProvider scanner = new IssueTypeScanner();
+        for (final String basePackage : getBasePackages()) {
+            for (final BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+                final Class<?> candidateClass = ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader);
+                if (!candidateClass.isEnum()) {
+                    continue;
+                }
+
+                for (final Object issueType : candidateClass.getEnumConstants()) {
+                    IssueTypeRegistry.register((IssueType) issueType);
+                }
+                logger.debug("Registered issue types of {}.", candidateClass.getName());
+            }
+        }
+    }
+
+    private List<String> getBasePackages() {
+        final List<String> basePackages = properties.getBasePackages();
+        if (basePackages != null && !basePackages.isEmpty()) {
+            return basePackages;
+        }
+        if (AutoConfigurationPackages.has(beanFactory)) {
+            return AutoConfigurationPackages.get(beanFactory);
+        }
+        return Collections.emptyList();
+    }
+
+    private static class IssueTypeScanner extends ClassPathScanningCandidateComponentProvider {
+
+        IssueTypeScanner() {
+            super(false);
+            addIncludeFilter(new AssignableTypeFilter(IssueType.class));
+        }
+
+        @Override
+        protected boolean isCandidateComponent(final AnnotatedBeanDefinition beanDefinition) {
+            return beanDefinition.getMetadata().isIndependent();
+        }
+    }
+}
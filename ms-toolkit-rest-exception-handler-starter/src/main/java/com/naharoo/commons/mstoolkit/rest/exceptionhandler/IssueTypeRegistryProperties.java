@@ -0,0 +1,22 @@
+package com.naharoo.commons.mstoolkit.rest.exceptionhandler;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+@ConfigurationProperties(prefix = "ms-toolkit.rest-exception-handler.issue-types")
+public class IssueTypeRegistryProperties {
+
+    /**
+     * Packages scanned for enums implementing IssueType. Defaults to the auto-configuration packages.
+     */
+    private List<String> basePackages;
+
+    public List<String> getBasePackages() {
+        return basePackages;
+    }
+
+    public void setBasePackages(final List<String> basePackages) {
+        this.basePackages = basePackages;
+    }
+}
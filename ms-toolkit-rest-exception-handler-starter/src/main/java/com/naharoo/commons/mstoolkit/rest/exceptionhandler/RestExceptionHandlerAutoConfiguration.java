@@ -1,13 +1,18 @@
 package com.naharoo.commons.mstoolkit.rest.exceptionhandler;
 
+import org.springframework.boot.autoconfigure.AutoConfigurationExcludeFilter;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
 import org.springframework.context.annotation.PropertySource;
 
 @Configuration
-@EnableConfigurationProperties(RestExceptionHandlerProperties.class)
-@ComponentScan("com.naharoo.commons.mstoolkit.rest.exceptionhandler")
+@EnableConfigurationProperties({RestExceptionHandlerProperties.class, IssueTypeRegistryProperties.class})
+@ComponentScan(
+        basePackages = "com.naharoo.commons.mstoolkit.rest.exceptionhandler",
+        excludeFilters = @ComponentScan.Filter(type = FilterType.CUSTOM, classes = AutoConfigurationExcludeFilter.class)
+)
 @PropertySource("classpath:ms-toolkit-exception-handler-starter.properties")
 public class RestExceptionHandlerAutoConfiguration {
 
@@ -2,11 +2,7 @@ package com.naharoo.commons.mstoolkit.rest.exceptionhandler.client;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializerProvider;
-import com.fasterxml.jackson.databind.annotation.JsonSerialize;
-import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import com.naharoo.commons.mstoolkit.exceptions.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -15,17 +11,17 @@ import org.springframework.stereotype.Component;
 import java.io.IOException;
 import java.io.InputStream;
 import java.time.LocalDateTime;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import static java.util.Collections.singletonList;
 
 @Component
 public class MsExceptionFactory {
 
+    private static final String UNKNOWN_ERROR = "UNKNOWN_ERROR";
+
     private final ObjectMapper objectMapper;
 
     @Autowired
@@ -37,10 +33,8 @@ public class MsExceptionFactory {
         if (inputStreamSupplier == null) {
             final HttpStatus httpStatus = HttpStatus.valueOf(status);
             if (httpStatus.is4xxClientError()) {
-                return CustomMsException.createInstance(singletonList(new LocalIssueType(
-                        "UNKNOWN_ERROR",
-                        status
-                )));
+                return CustomMsException.createInstance(
+                        singletonList(IssueTypeRegistry.resolve(UNKNOWN_ERROR, status)));
             }
             throw new IllegalStateException(
                     "Failed to process HTTP request's response. Unable to extract response body.");
@@ -61,13 +55,12 @@ public class MsExceptionFactory {
                         convertToIssuesList(types, status), extractErrorMessage(apiErrorResponse));
             }
 
-            final String type = types.iterator().next();
-            if (!isCommonIssue(type)) {
-                return CustomMsException.createInstance(
-                        convertToIssuesList(types, status), extractErrorMessage(apiErrorResponse));
+            final IssueType type = IssueTypeRegistry.resolve(types.iterator().next(), status);
+            if (!(type instanceof CommonIssueType)) {
+                return CustomMsException.createInstance(singletonList(type), extractErrorMessage(apiErrorResponse));
             }
 
-            final CommonIssueType commonIssue = CommonIssueType.valueOf(type);
+            final CommonIssueType commonIssue = (CommonIssueType) type;
             switch (commonIssue) {
                 case RESOURCE_NOT_FOUND:
                     return new ResourceNotFoundException(extractErrorMessage(apiErrorResponse), null);
@@ -87,15 +80,12 @@ public class MsExceptionFactory {
         }
     }
 
-    private boolean isCommonIssue(String type) {
-        return Arrays.stream(CommonIssueType.values())
-                     .anyMatch(commonType -> commonType.name().equals(type));
-    }
-
     private List<IssueType> convertToIssuesList(Set<String> types, int statusCode) {
-        return types.stream()
-                    .map(value -> new LocalIssueType(value, statusCode))
-                    .collect(Collectors.toList());
+        final List<IssueType> issueTypes = new ArrayList<>(types.size());
+        for (final String value : types) {
+            issueTypes.add(IssueTypeRegistry.resolve(value, statusCode));
+        }
+        return issueTypes;
     }
 
     private String extractErrorMessage(final ApiErrorResponse apiErrorResponse) {
@@ -144,46 +134,4 @@ public class MsExceptionFactory {
             return timestamp;
         }
     }
-
-    @JsonSerialize(using = LocalIssueType.Serializer.class)
-    private static class LocalIssueType implements IssueType {
-
-        private final String value;
-        private final int statusCode;
-
-        public LocalIssueType(final String value, final int statusCode) {
-            this.value = value;
-            this.statusCode = statusCode;
-        }
-
-        @Override
-        public String asString() {
-            return value;
-        }
-
-        @Override
-        public int statusCode() {
-            return statusCode;
-        }
-
-        private static class Serializer extends StdSerializer<LocalIssueType> {
-
-            public Serializer() {
-                this(null);
-            }
-
-            public Serializer(final Class<LocalIssueType> clazz) {
-                super(clazz);
-            }
-
-            @Override
-            public void serialize(
-                    final LocalIssueType value,
-                    final JsonGenerator jsonGenerator,
-                    final SerializerProvider provider
-            ) throws IOException {
-                jsonGenerator.writeString(Optional.ofNullable(value).map(LocalIssueType::asString).orElse(null));
-            }
-        }
-    }
 }
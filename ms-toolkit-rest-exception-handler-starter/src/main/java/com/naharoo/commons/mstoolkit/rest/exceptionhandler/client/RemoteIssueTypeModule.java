@@ -0,0 +1,43 @@
+package com.naharoo.commons.mstoolkit.rest.exceptionhandler.client;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.naharoo.commons.mstoolkit.exceptions.RemoteIssueType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Serializes {@link RemoteIssueType}s received from other services by their String representation, so that they are
+ * reported by this service the same way as its own issue types.
+ */
+@Component
+public class RemoteIssueTypeModule extends SimpleModule {
+
+    private static final long serialVersionUID = 4203815739621845377L;
+
+    public RemoteIssueTypeModule() {
+        super(RemoteIssueTypeModule.class.getSimpleName());
+        addSerializer(RemoteIssueType.class, new Serializer());
+    }
+
+    private static class Serializer extends StdSerializer<RemoteIssueType> {
+
+        private static final long serialVersionUID = -6410378826518327062L;
+
+        public Serializer() {
+            super(RemoteIssueType.class);
+        }
+
+        @Override
+        public void serialize(
+                final RemoteIssueType value,
+                final JsonGenerator jsonGenerator,
+                final SerializerProvider provider
+        ) throws IOException {
+            jsonGenerator.writeString(value.asString());
+        }
+    }
+}
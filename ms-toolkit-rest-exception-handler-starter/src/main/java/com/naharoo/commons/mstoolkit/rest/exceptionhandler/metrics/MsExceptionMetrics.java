@@ -0,0 +1,45 @@
+package com.naharoo.commons.mstoolkit.rest.exceptionhandler.metrics;
+
+import com.naharoo.commons.mstoolkit.exceptions.MsExceptionStatistics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * Exposes occurrence counters of {@link MsExceptionStatistics} as {@value #OCCURRENCES_COUNTER} function counters,
+ * tagged by {@code type}, the String representation of the issue type. Counters of issue types occurring for the
+ * first time later on are registered as they appear.
+ * <p>
+ * Registries stop receiving new counters once the binder is closed.
+ */
+public class MsExceptionMetrics implements MeterBinder, AutoCloseable {
+
+    public static final String OCCURRENCES_COUNTER = "ms-toolkit.exceptions";
+
+    private final List<BiConsumer<String, LongAdder>> counterListeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        final BiConsumer<String, LongAdder> counterListener = (issueType, counter) -> FunctionCounter
+                .builder(OCCURRENCES_COUNTER, counter, LongAdder::sum)
+                .description("Occurrences of MS Toolkit exceptions")
+                .tag("type", issueType)
+                .register(registry);
+        counterListeners.add(counterListener);
+        MsExceptionStatistics.addCounterListener(counterListener);
+    }
+
+    /**
+     * Unregisters the listeners of all registries this binder has been bound to from {@link MsExceptionStatistics}.
+     */
+    @Override
+    public void close() {
+        counterListeners.forEach(MsExceptionStatistics::removeCounterListener);
+        counterListeners.clear();
+    }
+}
@@ -0,0 +1,24 @@
+package com.naharoo.commons.mstoolkit.rest.exceptionhandler.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Provides {@link MsExceptionMetrics} when Micrometer is present.
+ * Can be disabled with {@code ms-toolkit.rest-exception-handler.metrics.enabled=false}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnProperty(prefix = "ms-toolkit.rest-exception-handler.metrics", name = "enabled", matchIfMissing = true)
+public class MsExceptionMetricsAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public MsExceptionMetrics msExceptionMetrics() {
+        return new MsExceptionMetrics();
+    }
+}